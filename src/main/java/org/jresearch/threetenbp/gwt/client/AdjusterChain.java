@@ -0,0 +1,664 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import static java.time.temporal.ChronoField.YEAR;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalUnit;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A sequence of adjustments and additions compiled into a single adjuster.
+ * <p>
+ * Chaining {@code with} and {@code plus} calls validates the fields and creates
+ * a new object for every step. A chain applies its steps to the raw year, month,
+ * day and nano-of-day and only creates the final object, with the same result as
+ * applying the steps one by one:
+ *
+ * <pre>
+ * AdjusterChain chain = AdjusterChain.builder().firstDayOfNextMonth().nextOrSame(MONDAY).plusHours(9).build();
+ * LocalDateTime next = dateTime.with(chain);
+ * </pre>
+ * <p>
+ * The raw fields are used for a {@code LocalDate}, {@code LocalDateTime},
+ * {@code OffsetDateTime} or {@code ZonedDateTime} in a zone with a fixed offset,
+ * when all steps are built-in operations. Otherwise, such as for adjusters and
+ * amounts added with {@link Builder#with(TemporalAdjuster)} and
+ * {@link Builder#plus(TemporalAmount)}, or a zone with transitions, the steps are
+ * applied one by one.
+ * <p>
+ * A chain is immutable and may be reused.
+ */
+public final class AdjusterChain implements TemporalAdjuster {
+
+	private static final int FIRST_DAY_OF_MONTH = 0;
+	private static final int LAST_DAY_OF_MONTH = 1;
+	private static final int FIRST_DAY_OF_NEXT_MONTH = 2;
+	private static final int FIRST_DAY_OF_YEAR = 3;
+	private static final int LAST_DAY_OF_YEAR = 4;
+	private static final int FIRST_DAY_OF_NEXT_YEAR = 5;
+	private static final int DAY_OF_WEEK_IN_MONTH = 6;
+	private static final int NEXT = 7;
+	private static final int NEXT_OR_SAME = 8;
+	private static final int PREVIOUS = 9;
+	private static final int PREVIOUS_OR_SAME = 10;
+	private static final int PLUS_DAYS = 11;
+	private static final int PLUS_MONTHS = 12;
+	private static final int PLUS_YEARS = 13;
+	private static final int PLUS_TIME = 14;
+	private static final int WITH_TIME = 15;
+	private static final int ADJUSTER = 16;
+	private static final int AMOUNT = 17;
+	private static final int PLUS_UNIT = 18;
+
+	private static final long NANOS_PER_DAY = 86_400_000_000_000L;
+	/** The exclusive bound on the absolute year of {@link LocalDate#toEpochDayInt()}. */
+	private static final int MAX_INT_YEAR = 1_000_000;
+	/** The exclusive bound on the absolute days added in {@code int} arithmetic. */
+	private static final int MAX_INT_DAYS = 1_000_000_000;
+
+	/** The operation of each step. */
+	private final int[] ops;
+	/** The first operand of each step, such as the amount or ordinal. */
+	private final long[] first;
+	/** The second operand of each step, such as the day-of-week or unit factor. */
+	private final long[] second;
+	/** The object of each step, the unit, time, adjuster or amount, null otherwise. */
+	private final Object[] objects;
+	/** Whether all steps can be applied to the raw fields. */
+	private final boolean compiled;
+	/** Whether any step changes the time. */
+	private final boolean timeBased;
+
+	private AdjusterChain(Builder builder) {
+		this.ops = Arrays.copyOf(builder.ops, builder.size);
+		this.first = Arrays.copyOf(builder.first, builder.size);
+		this.second = Arrays.copyOf(builder.second, builder.size);
+		this.objects = Arrays.copyOf(builder.objects, builder.size);
+		boolean compiled = true;
+		boolean timeBased = false;
+		for (int op : ops) {
+			compiled &= op < ADJUSTER;
+			timeBased |= op == PLUS_TIME || op == WITH_TIME;
+		}
+		this.compiled = compiled;
+		this.timeBased = timeBased;
+	}
+
+	/**
+	 * @return a new builder of an empty chain, not null
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return the number of steps in the chain
+	 */
+	public int size() {
+		return ops.length;
+	}
+
+	/**
+	 * Applies the steps to the temporal, with the same result as applying them
+	 * one by one.
+	 *
+	 * @param temporal the temporal to adjust, not null
+	 * @return the adjusted temporal, not null
+	 * @throws java.time.DateTimeException if a step fails
+	 * @throws ArithmeticException if numeric overflow occurs
+	 */
+	@Override
+	public Temporal adjustInto(Temporal temporal) {
+		Objects.requireNonNull(temporal, "temporal");
+		if (compiled) {
+			if (temporal instanceof LocalDateTime) {
+				return run((LocalDateTime) temporal);
+			}
+			if (temporal instanceof LocalDate && timeBased == false) {
+				LocalDate date = (LocalDate) temporal;
+				Fields fields = new Fields(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), 0);
+				run(fields);
+				return fields.toLocalDate();
+			}
+			if (temporal instanceof OffsetDateTime) {
+				OffsetDateTime dateTime = (OffsetDateTime) temporal;
+				return OffsetDateTime.of(run(dateTime.toLocalDateTime()), dateTime.getOffset());
+			}
+			if (temporal instanceof ZonedDateTime) {
+				ZonedDateTime dateTime = (ZonedDateTime) temporal;
+				if (dateTime.getZone().getRules().isFixedOffset()) {
+					return ZonedDateTime.ofLocal(run(dateTime.toLocalDateTime()), dateTime.getZone(), dateTime.getOffset());
+				}
+			}
+		}
+		for (int i = 0; i < ops.length; i++) {
+			temporal = applyStep(temporal, i);
+		}
+		return temporal;
+	}
+
+	private LocalDateTime run(LocalDateTime dateTime) {
+		Fields fields = new Fields(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+				dateTime.toLocalTime().toNanoOfDay());
+		run(fields);
+		return LocalDateTime.of(fields.toLocalDate(), LocalTime.ofNanoOfDay(fields.nanoOfDay));
+	}
+
+	private void run(Fields fields) {
+		for (int i = 0; i < ops.length; i++) {
+			switch (ops[i]) {
+			case FIRST_DAY_OF_MONTH:
+				fields.day = 1;
+				break;
+			case LAST_DAY_OF_MONTH:
+				fields.day = fields.lengthOfMonth();
+				break;
+			case FIRST_DAY_OF_NEXT_MONTH:
+				fields.day = 1;
+				fields.plusMonths(1);
+				break;
+			case FIRST_DAY_OF_YEAR:
+				fields.month = 1;
+				fields.day = 1;
+				break;
+			case LAST_DAY_OF_YEAR:
+				fields.month = 12;
+				fields.day = 31;
+				break;
+			case FIRST_DAY_OF_NEXT_YEAR:
+				fields.month = 1;
+				fields.day = 1;
+				fields.plusYears(1);
+				break;
+			case DAY_OF_WEEK_IN_MONTH:
+				fields.dayOfWeekInMonth((int) first[i], (int) second[i]);
+				break;
+			case NEXT:
+			case NEXT_OR_SAME: {
+				int daysDiff = fields.dayOfWeek() - (int) second[i];
+				if (daysDiff != 0 || ops[i] == NEXT) {
+					fields.plusDays(daysDiff >= 0 ? 7 - daysDiff : -daysDiff);
+				}
+				break;
+			}
+			case PREVIOUS:
+			case PREVIOUS_OR_SAME: {
+				int daysDiff = (int) second[i] - fields.dayOfWeek();
+				if (daysDiff != 0 || ops[i] == PREVIOUS) {
+					fields.plusDays(-(daysDiff >= 0 ? 7 - daysDiff : -daysDiff));
+				}
+				break;
+			}
+			case PLUS_DAYS:
+				fields.plusDays(Math.multiplyExact(first[i], second[i]));
+				break;
+			case PLUS_MONTHS:
+				fields.plusMonths(first[i]);
+				break;
+			case PLUS_YEARS:
+				fields.plusYears(Math.multiplyExact(first[i], second[i]));
+				break;
+			case PLUS_TIME:
+				fields.plusTime(first[i], second[i]);
+				break;
+			case WITH_TIME:
+				fields.nanoOfDay = first[i];
+				break;
+			default:
+				throw new IllegalStateException("Unknown operation: " + ops[i]);
+			}
+		}
+	}
+
+	private Temporal applyStep(Temporal temporal, int i) {
+		switch (ops[i]) {
+		case FIRST_DAY_OF_MONTH:
+			return temporal.with(TemporalAdjusters.firstDayOfMonth());
+		case LAST_DAY_OF_MONTH:
+			return temporal.with(TemporalAdjusters.lastDayOfMonth());
+		case FIRST_DAY_OF_NEXT_MONTH:
+			return temporal.with(TemporalAdjusters.firstDayOfNextMonth());
+		case FIRST_DAY_OF_YEAR:
+			return temporal.with(TemporalAdjusters.firstDayOfYear());
+		case LAST_DAY_OF_YEAR:
+			return temporal.with(TemporalAdjusters.lastDayOfYear());
+		case FIRST_DAY_OF_NEXT_YEAR:
+			return temporal.with(TemporalAdjusters.firstDayOfNextYear());
+		case DAY_OF_WEEK_IN_MONTH:
+			return temporal.with(TemporalAdjusters.dayOfWeekInMonth((int) first[i], DayOfWeek.of((int) second[i])));
+		case NEXT:
+			return temporal.with(TemporalAdjusters.next(DayOfWeek.of((int) second[i])));
+		case NEXT_OR_SAME:
+			return temporal.with(TemporalAdjusters.nextOrSame(DayOfWeek.of((int) second[i])));
+		case PREVIOUS:
+			return temporal.with(TemporalAdjusters.previous(DayOfWeek.of((int) second[i])));
+		case PREVIOUS_OR_SAME:
+			return temporal.with(TemporalAdjusters.previousOrSame(DayOfWeek.of((int) second[i])));
+		case PLUS_DAYS:
+		case PLUS_MONTHS:
+		case PLUS_YEARS:
+		case PLUS_TIME:
+		case PLUS_UNIT:
+			return temporal.plus(first[i], (TemporalUnit) objects[i]);
+		case WITH_TIME:
+		case ADJUSTER:
+			return temporal.with((TemporalAdjuster) objects[i]);
+		case AMOUNT:
+			return temporal.plus((TemporalAmount) objects[i]);
+		default:
+			throw new IllegalStateException("Unknown operation: " + ops[i]);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "AdjusterChain[" + ops.length + " steps" + (compiled ? "" : ", not compiled") + "]";
+	}
+
+	// -----------------------------------------------------------------------
+	/**
+	 * The mutable ISO fields a chain is applied to.
+	 */
+	private static final class Fields {
+		private int year;
+		private int month;
+		private int day;
+		private long nanoOfDay;
+
+		Fields(int year, int month, int day, long nanoOfDay) {
+			this.year = year;
+			this.month = month;
+			this.day = day;
+			this.nanoOfDay = nanoOfDay;
+		}
+
+		LocalDate toLocalDate() {
+			return LocalDate.of(year, month, day);
+		}
+
+		int lengthOfMonth() {
+			return IsoDays.lengthOfMonth(year, month);
+		}
+
+		int dayOfWeek() {
+			return toLocalDate().getDayOfWeek().getValue();
+		}
+
+		// matches the arithmetic of TemporalAdjusters.dayOfWeekInMonth
+		void dayOfWeekInMonth(int ordinal, int dowValue) {
+			if (ordinal >= 0) {
+				day = 1;
+				int curDow = dayOfWeek();
+				int dowDiff = (dowValue - curDow + 7) % 7;
+				dowDiff += (ordinal - 1L) * 7L;
+				plusDays(dowDiff);
+			} else {
+				day = lengthOfMonth();
+				int curDow = dayOfWeek();
+				int daysDiff = dowValue - curDow;
+				daysDiff = (daysDiff == 0 ? 0 : (daysDiff > 0 ? daysDiff - 7 : daysDiff));
+				daysDiff -= (-ordinal - 1L) * 7L;
+				plusDays(daysDiff);
+			}
+		}
+
+		void plusDays(long days) {
+			if (days > -MAX_INT_DAYS && days < MAX_INT_DAYS) {
+				plusDays((int) days);
+			} else {
+				setDate(LocalDate.ofEpochDay(Math.addExact(toLocalDate().toEpochDay(), days)));
+			}
+		}
+
+		void plusDays(int days) {
+			if (days != 0) {
+				LocalDate date = toLocalDate();
+				if (isIntYear()) {
+					// the epoch-days of these years are within 365,000,000, so the sum fits an int
+					setDate(LocalDate.ofEpochDayInt(date.toEpochDayInt() + days));
+				} else {
+					setDate(LocalDate.ofEpochDay(Math.addExact(date.toEpochDay(), days)));
+				}
+			}
+		}
+
+		void plusMonths(long months) {
+			if (months != 0) {
+				long monthCount = year * 12L + (month - 1);
+				long calcMonths = monthCount + months;
+				year = YEAR.checkValidIntValue(Math.floorDiv(calcMonths, 12));
+				month = (int) Math.floorMod(calcMonths, 12) + 1;
+				day = Math.min(day, lengthOfMonth());
+			}
+		}
+
+		void plusYears(long years) {
+			if (years != 0) {
+				year = YEAR.checkValidIntValue(year + years);
+				day = Math.min(day, lengthOfMonth());
+			}
+		}
+
+		// matches the arithmetic of LocalDateTime.plusWithOverflow
+		void plusTime(long amount, long unitNanos) {
+			long unitsPerDay = NANOS_PER_DAY / unitNanos;
+			long totNanos = (amount % unitsPerDay) * unitNanos + nanoOfDay;
+			long totDays = amount / unitsPerDay + Math.floorDiv(totNanos, NANOS_PER_DAY);
+			nanoOfDay = Math.floorMod(totNanos, NANOS_PER_DAY);
+			plusDays(totDays);
+		}
+
+		private boolean isIntYear() {
+			return year > -MAX_INT_YEAR && year < MAX_INT_YEAR;
+		}
+
+		private void setDate(LocalDate date) {
+			year = date.getYear();
+			month = date.getMonthValue();
+			day = date.getDayOfMonth();
+		}
+	}
+
+	// -----------------------------------------------------------------------
+	/**
+	 * Builder of a chain, adding steps in the order they are applied.
+	 * <p>
+	 * The methods named after {@link TemporalAdjusters} add the same adjustment.
+	 */
+	public static final class Builder {
+
+		private int[] ops = new int[8];
+		private long[] first = new long[8];
+		private long[] second = new long[8];
+		private Object[] objects = new Object[8];
+		private int size;
+
+		private Builder() {
+		}
+
+		private Builder add(int op, long firstValue, long secondValue, Object object) {
+			if (size == ops.length) {
+				ops = Arrays.copyOf(ops, size * 2);
+				first = Arrays.copyOf(first, size * 2);
+				second = Arrays.copyOf(second, size * 2);
+				objects = Arrays.copyOf(objects, size * 2);
+			}
+			ops[size] = op;
+			first[size] = firstValue;
+			second[size] = secondValue;
+			objects[size] = object;
+			size++;
+			return this;
+		}
+
+		/**
+		 * @return this, adding {@link TemporalAdjusters#firstDayOfMonth()}
+		 */
+		public Builder firstDayOfMonth() {
+			return add(FIRST_DAY_OF_MONTH, 0, 0, null);
+		}
+
+		/**
+		 * @return this, adding {@link TemporalAdjusters#lastDayOfMonth()}
+		 */
+		public Builder lastDayOfMonth() {
+			return add(LAST_DAY_OF_MONTH, 0, 0, null);
+		}
+
+		/**
+		 * @return this, adding {@link TemporalAdjusters#firstDayOfNextMonth()}
+		 */
+		public Builder firstDayOfNextMonth() {
+			return add(FIRST_DAY_OF_NEXT_MONTH, 0, 0, null);
+		}
+
+		/**
+		 * @return this, adding {@link TemporalAdjusters#firstDayOfYear()}
+		 */
+		public Builder firstDayOfYear() {
+			return add(FIRST_DAY_OF_YEAR, 0, 0, null);
+		}
+
+		/**
+		 * @return this, adding {@link TemporalAdjusters#lastDayOfYear()}
+		 */
+		public Builder lastDayOfYear() {
+			return add(LAST_DAY_OF_YEAR, 0, 0, null);
+		}
+
+		/**
+		 * @return this, adding {@link TemporalAdjusters#firstDayOfNextYear()}
+		 */
+		public Builder firstDayOfNextYear() {
+			return add(FIRST_DAY_OF_NEXT_YEAR, 0, 0, null);
+		}
+
+		/**
+		 * @param dayOfWeek the day-of-week, not null
+		 * @return this, adding {@link TemporalAdjusters#firstInMonth(DayOfWeek)}
+		 */
+		public Builder firstInMonth(DayOfWeek dayOfWeek) {
+			return dayOfWeekInMonth(1, dayOfWeek);
+		}
+
+		/**
+		 * @param dayOfWeek the day-of-week, not null
+		 * @return this, adding {@link TemporalAdjusters#lastInMonth(DayOfWeek)}
+		 */
+		public Builder lastInMonth(DayOfWeek dayOfWeek) {
+			return dayOfWeekInMonth(-1, dayOfWeek);
+		}
+
+		/**
+		 * @param ordinal   the week within the month
+		 * @param dayOfWeek the day-of-week, not null
+		 * @return this, adding {@link TemporalAdjusters#dayOfWeekInMonth(int, DayOfWeek)}
+		 */
+		public Builder dayOfWeekInMonth(int ordinal, DayOfWeek dayOfWeek) {
+			Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+			return add(DAY_OF_WEEK_IN_MONTH, ordinal, dayOfWeek.getValue(), null);
+		}
+
+		/**
+		 * @param dayOfWeek the day-of-week, not null
+		 * @return this, adding {@link TemporalAdjusters#next(DayOfWeek)}
+		 */
+		public Builder next(DayOfWeek dayOfWeek) {
+			Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+			return add(NEXT, 0, dayOfWeek.getValue(), null);
+		}
+
+		/**
+		 * @param dayOfWeek the day-of-week, not null
+		 * @return this, adding {@link TemporalAdjusters#nextOrSame(DayOfWeek)}
+		 */
+		public Builder nextOrSame(DayOfWeek dayOfWeek) {
+			Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+			return add(NEXT_OR_SAME, 0, dayOfWeek.getValue(), null);
+		}
+
+		/**
+		 * @param dayOfWeek the day-of-week, not null
+		 * @return this, adding {@link TemporalAdjusters#previous(DayOfWeek)}
+		 */
+		public Builder previous(DayOfWeek dayOfWeek) {
+			Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+			return add(PREVIOUS, 0, dayOfWeek.getValue(), null);
+		}
+
+		/**
+		 * @param dayOfWeek the day-of-week, not null
+		 * @return this, adding {@link TemporalAdjusters#previousOrSame(DayOfWeek)}
+		 */
+		public Builder previousOrSame(DayOfWeek dayOfWeek) {
+			Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+			return add(PREVIOUS_OR_SAME, 0, dayOfWeek.getValue(), null);
+		}
+
+		/**
+		 * @param days the days to add, may be negative
+		 * @return this, adding the days
+		 */
+		public Builder plusDays(long days) {
+			return plus(days, ChronoUnit.DAYS);
+		}
+
+		/**
+		 * @param weeks the weeks to add, may be negative
+		 * @return this, adding the weeks
+		 */
+		public Builder plusWeeks(long weeks) {
+			return plus(weeks, ChronoUnit.WEEKS);
+		}
+
+		/**
+		 * @param months the months to add, may be negative
+		 * @return this, adding the months
+		 */
+		public Builder plusMonths(long months) {
+			return plus(months, ChronoUnit.MONTHS);
+		}
+
+		/**
+		 * @param years the years to add, may be negative
+		 * @return this, adding the years
+		 */
+		public Builder plusYears(long years) {
+			return plus(years, ChronoUnit.YEARS);
+		}
+
+		/**
+		 * @param hours the hours to add, may be negative
+		 * @return this, adding the hours
+		 */
+		public Builder plusHours(long hours) {
+			return plus(hours, ChronoUnit.HOURS);
+		}
+
+		/**
+		 * @param minutes the minutes to add, may be negative
+		 * @return this, adding the minutes
+		 */
+		public Builder plusMinutes(long minutes) {
+			return plus(minutes, ChronoUnit.MINUTES);
+		}
+
+		/**
+		 * @param amountToAdd the amount of the unit to add, may be negative
+		 * @param unit        the unit of the amount, not null
+		 * @return this, adding the amount as by {@link Temporal#plus(long, TemporalUnit)}
+		 */
+		public Builder plus(long amountToAdd, TemporalUnit unit) {
+			Objects.requireNonNull(unit, "unit");
+			if (unit instanceof ChronoUnit) {
+				switch ((ChronoUnit) unit) {
+				case NANOS:
+				case MICROS:
+				case MILLIS:
+				case SECONDS:
+				case MINUTES:
+				case HOURS:
+					return add(PLUS_TIME, amountToAdd, unit.getDuration().toNanos(), unit);
+				case DAYS:
+					return add(PLUS_DAYS, amountToAdd, 1, unit);
+				case WEEKS:
+					return add(PLUS_DAYS, amountToAdd, 7, unit);
+				case MONTHS:
+					return add(PLUS_MONTHS, amountToAdd, 1, unit);
+				case YEARS:
+					return add(PLUS_YEARS, amountToAdd, 1, unit);
+				case DECADES:
+					return add(PLUS_YEARS, amountToAdd, 10, unit);
+				case CENTURIES:
+					return add(PLUS_YEARS, amountToAdd, 100, unit);
+				case MILLENNIA:
+					return add(PLUS_YEARS, amountToAdd, 1000, unit);
+				default:
+					break;
+				}
+			}
+			return add(PLUS_UNIT, amountToAdd, 0, unit);
+		}
+
+		/**
+		 * Adds an amount. A {@code Period} or {@code Duration} is added as by its
+		 * {@code addTo} method, other amounts are applied as they are.
+		 *
+		 * @param amount the amount to add, not null
+		 * @return this, adding the amount
+		 */
+		public Builder plus(TemporalAmount amount) {
+			Objects.requireNonNull(amount, "amount");
+			if (amount instanceof Period) {
+				Period period = (Period) amount;
+				if (period.getYears() != 0) {
+					if (period.getMonths() != 0) {
+						plus(period.toTotalMonths(), ChronoUnit.MONTHS);
+					} else {
+						plus(period.getYears(), ChronoUnit.YEARS);
+					}
+				} else if (period.getMonths() != 0) {
+					plus(period.getMonths(), ChronoUnit.MONTHS);
+				}
+				if (period.getDays() != 0) {
+					plus(period.getDays(), ChronoUnit.DAYS);
+				}
+				return this;
+			}
+			if (amount instanceof Duration) {
+				Duration duration = (Duration) amount;
+				if (duration.getSeconds() != 0) {
+					plus(duration.getSeconds(), ChronoUnit.SECONDS);
+				}
+				if (duration.getNano() != 0) {
+					plus(duration.getNano(), ChronoUnit.NANOS);
+				}
+				return this;
+			}
+			return add(AMOUNT, 0, 0, amount);
+		}
+
+		/**
+		 * Adds an adjuster. A {@code LocalTime} sets the time and the steps of another
+		 * chain are copied, other adjusters are applied as they are.
+		 *
+		 * @param adjuster the adjuster to add, not null
+		 * @return this, adding the adjuster
+		 */
+		public Builder with(TemporalAdjuster adjuster) {
+			Objects.requireNonNull(adjuster, "adjuster");
+			if (adjuster instanceof LocalTime) {
+				return add(WITH_TIME, ((LocalTime) adjuster).toNanoOfDay(), 0, adjuster);
+			}
+			if (adjuster instanceof AdjusterChain) {
+				AdjusterChain chain = (AdjusterChain) adjuster;
+				for (int i = 0; i < chain.ops.length; i++) {
+					add(chain.ops[i], chain.first[i], chain.second[i], chain.objects[i]);
+				}
+				return this;
+			}
+			return add(ADJUSTER, 0, 0, adjuster);
+		}
+
+		/**
+		 * @return the chain of the steps added so far, not null
+		 */
+		public AdjusterChain build() {
+			return new AdjusterChain(this);
+		}
+	}
+
+}
@@ -0,0 +1,162 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import javax.annotation.Nonnull;
+
+import com.google.gwt.i18n.client.LocaleInfo;
+import com.google.gwt.i18n.client.constants.NumberConstants;
+import com.google.gwt.i18n.shared.DateTimeFormatInfo;
+
+/**
+ * {@link LocaleDataProvider} based on the CLDR data generated by the GWT
+ * compiler for the locale of the current permutation. The result does not
+ * depend on the browser. Locales outside of the permutation are delegated to
+ * {@link IntlLocaleDataProvider}.
+ * <p>
+ * To enable add
+ * {@code <set-property name="gwt.time.localeData" value="cldr"/>} to the
+ * module descriptor.
+ */
+public class CldrLocaleDataProvider implements LocaleDataProvider {
+
+	private static final String DEFAULT_LOCALE = "default";
+
+	private final LocaleDataProvider fallback = new IntlLocaleDataProvider();
+
+	@Override
+	@Nonnull
+	public String[] displayMonths(String style, boolean standalone, String locale) {
+		if (!isCurrentLocale(locale)) {
+			return fallback.displayMonths(style, standalone, locale);
+		}
+		DateTimeFormatInfo info = LocaleInfo.getCurrentLocale().getDateTimeFormatInfo();
+		switch (style) {
+		case "narrow":
+			return standalone ? info.monthsNarrowStandalone() : info.monthsNarrow();
+		case "short":
+			return standalone ? info.monthsShortStandalone() : info.monthsShort();
+		case "long":
+			return standalone ? info.monthsFullStandalone() : info.monthsFull();
+		default:
+			return fallback.displayMonths(style, standalone, locale);
+		}
+	}
+
+	@Override
+	@Nonnull
+	public String[] displayWeekdays(String style, boolean standalone, String locale) {
+		if (!isCurrentLocale(locale)) {
+			return fallback.displayWeekdays(style, standalone, locale);
+		}
+		DateTimeFormatInfo info = LocaleInfo.getCurrentLocale().getDateTimeFormatInfo();
+		switch (style) {
+		case "narrow":
+			return fromMonday(standalone ? info.weekdaysNarrowStandalone() : info.weekdaysNarrow());
+		case "short":
+			return fromMonday(standalone ? info.weekdaysShortStandalone() : info.weekdaysShort());
+		case "long":
+			return fromMonday(standalone ? info.weekdaysFullStandalone() : info.weekdaysFull());
+		default:
+			return fallback.displayWeekdays(style, standalone, locale);
+		}
+	}
+
+	@Override
+	@Nonnull
+	public String[] displayEras(String style, String locale) {
+		if (!isCurrentLocale(locale)) {
+			return fallback.displayEras(style, locale);
+		}
+		DateTimeFormatInfo info = LocaleInfo.getCurrentLocale().getDateTimeFormatInfo();
+		switch (style) {
+		case "short":
+			return info.erasShort();
+		case "long":
+			return info.erasFull();
+		default:
+			// CLDR narrow eras are not generated
+			return fallback.displayEras(style, locale);
+		}
+	}
+
+	@Override
+	@Nonnull
+	public String[] displayAmpm(String style, String locale) {
+		if (!isCurrentLocale(locale)) {
+			return fallback.displayAmpm(style, locale);
+		}
+		switch (style) {
+		case "short":
+			return LocaleInfo.getCurrentLocale().getDateTimeFormatInfo().ampms();
+		default:
+			// CLDR only generates the abbreviated AM/PM
+			return fallback.displayAmpm(style, locale);
+		}
+	}
+
+	@Override
+	@Nonnull
+	public DecimalProperty displayNumber(String locale) {
+		if (!isCurrentLocale(locale)) {
+			return fallback.displayNumber(locale);
+		}
+		NumberConstants constants = LocaleInfo.getCurrentLocale().getNumberConstants();
+		DecimalProperty result = new DecimalProperty();
+		result.zeroDigit = constants.zeroDigit();
+		result.positiveSign = constants.plusSign();
+		result.negativeSign = constants.minusSign();
+		result.decimalSeparator = constants.decimalSeparator();
+		return result;
+	}
+
+	/**
+	 * The GWT CLDR data has no minimal days in the first week, they are taken
+	 * from {@link IntlLocaleDataProvider}
+	 */
+	@Override
+	@Nonnull
+	public int[] weekInfo(String region) {
+		int[] result = fallback.weekInfo(region);
+		if (isCurrentRegion(region)) {
+			// CLDR first day of the week starts from Sunday = 0, java.time from Monday = 1
+			int firstDay = LocaleInfo.getCurrentLocale().getDateTimeFormatInfo().firstDayOfTheWeek();
+			result = new int[] { firstDay == 0 ? 7 : firstDay, result[1] };
+		}
+		return result;
+	}
+
+	/**
+	 * @param locale - language tag
+	 * @return true if CLDR data of the current permutation can be used for the
+	 *         locale
+	 */
+	private static boolean isCurrentLocale(String locale) {
+		String current = LocaleInfo.getCurrentLocale().getLocaleName();
+		if (locale.isEmpty()) {
+			return DEFAULT_LOCALE.equals(current);
+		}
+		return current.equals(locale.replace('-', '_'));
+	}
+
+	/**
+	 * @param region - region code, empty for none
+	 * @return true if CLDR data of the current permutation can be used for the
+	 *         region
+	 */
+	private static boolean isCurrentRegion(String region) {
+		String current = LocaleInfo.getCurrentLocale().getLocaleName();
+		int index = current.lastIndexOf('_');
+		return !region.isEmpty() && index >= 0 && current.substring(index + 1).equals(region);
+	}
+
+	/**
+	 * CLDR weekdays start from Sunday, java.time from Monday
+	 */
+	private static String[] fromMonday(String[] weekdays) {
+		String[] result = new String[7];
+		for (int i = 0; i < 7; i++) {
+			result[i] = weekdays[(i + 1) % 7];
+		}
+		return result;
+	}
+
+}
@@ -36,8 +36,12 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Date;
 
+import elemental2.core.JsDate;
+
 /**
  * A set of utilities to assist in bridging the gap to Java 8.
  * <p>
@@ -45,6 +49,11 @@ import java.util.Date;
  */
 public final class DateTimeUtils {
 
+    /**
+     * The largest number of milliseconds either side of the epoch that a JavaScript {@code Date} can hold.
+     */
+    private static final double MAX_JS_DATE_MILLIS = 8.64e15;
+
     /**
      * Restricted constructor.
      */
@@ -79,6 +88,66 @@ public final class DateTimeUtils {
         }
     }
 
+    //-----------------------------------------------------------------------
+    //GWT specific
+    /**
+     * Converts a JavaScript {@code Date} to an {@code Instant}.
+     * <p>
+     * The milliseconds are passed as a {@code double}, without conversion to {@code long}.
+     *
+     * @param jsDate  the JavaScript date, not null
+     * @return the instant, not null
+     * @throws java.time.DateTimeException if the date is invalid
+     */
+    public static Instant toInstant(JsDate jsDate) {
+        return Instant.ofEpochMilliDouble(jsDate.getTime());
+    }
+
+    //GWT specific
+    /**
+     * Converts an {@code Instant} to a JavaScript {@code Date}.
+     * <p>
+     * Fractions of the instant smaller than milliseconds will be dropped.
+     *
+     * @param instant  the instant, not null
+     * @return the JavaScript date, not null
+     * @throws IllegalArgumentException if the instant is outside the range of a JavaScript date
+     */
+    public static JsDate toJsDate(Instant instant) {
+        double millis = instant.toEpochMilliDouble();
+        if (Math.abs(millis) > MAX_JS_DATE_MILLIS) {
+            throw new IllegalArgumentException("Instant exceeds the range of a JavaScript Date: " + instant);
+        }
+        return new JsDate(millis);
+    }
+
+    //GWT specific
+    /**
+     * Converts a JavaScript {@code Date} to a {@code ZonedDateTime} in the specified zone.
+     *
+     * @param jsDate  the JavaScript date, not null
+     * @param zone  the time-zone, not null
+     * @return the zoned date-time, not null
+     * @throws java.time.DateTimeException if the date is invalid
+     */
+    public static ZonedDateTime toZonedDateTime(JsDate jsDate, ZoneId zone) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilliDouble(jsDate.getTime()), zone);
+    }
+
+    //GWT specific
+    /**
+     * Converts a {@code ZonedDateTime} to a JavaScript {@code Date}.
+     * <p>
+     * Fractions of the instant smaller than milliseconds will be dropped.
+     *
+     * @param zdt  the zoned date-time, not null
+     * @return the JavaScript date, not null
+     * @throws IllegalArgumentException if the instant is outside the range of a JavaScript date
+     */
+    public static JsDate toJsDate(ZonedDateTime zdt) {
+        return toJsDate(zdt.toInstant());
+    }
+
     //-----------------------------------------------------------------------
     //GWT specific
 //    /**
@@ -0,0 +1,96 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * A clock based on the browser high resolution time,
+ * {@code performance.timeOrigin + performance.now()}.
+ * <p>
+ * The instants of {@link Clock#systemUTC()} have millisecond precision. The
+ * instants of this clock also carry the sub-millisecond fraction provided by
+ * the browser, read as a {@code double} and converted without {@code long}
+ * arithmetic.
+ * <p>
+ * For measuring elapsed time use {@link Ticker}, which is monotonic.
+ */
+public final class HighResolutionClock extends Clock {
+
+	private static final HighResolutionClock UTC = new HighResolutionClock(ZoneOffset.UTC);
+
+	private final ZoneId zone;
+
+	private HighResolutionClock(ZoneId zone) {
+		this.zone = zone;
+	}
+
+	/**
+	 * @return a high resolution clock using the UTC time-zone, not null
+	 */
+	public static HighResolutionClock systemUTC() {
+		return UTC;
+	}
+
+	/**
+	 * @return a high resolution clock using the default time-zone, not null
+	 */
+	public static HighResolutionClock systemDefaultZone() {
+		return system(ZoneId.systemDefault());
+	}
+
+	/**
+	 * @param zone the time-zone to use to convert the instant to date-time, not
+	 *             null
+	 * @return a high resolution clock using the specified time-zone, not null
+	 */
+	public static HighResolutionClock system(ZoneId zone) {
+		Objects.requireNonNull(zone, "zone");
+		return new HighResolutionClock(zone);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	@Override
+	public HighResolutionClock withZone(ZoneId zone) {
+		Objects.requireNonNull(zone, "zone");
+		if (zone.equals(this.zone)) {
+			return this;
+		}
+		return new HighResolutionClock(zone);
+	}
+
+	@Override
+	public long millis() {
+		return (long) Math.floor(Support.getTimestamp());
+	}
+
+	@Override
+	public Instant instant() {
+		return Instant.ofEpochMilliDouble(Support.getTimestamp());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof HighResolutionClock) {
+			return zone.equals(((HighResolutionClock) obj).zone);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return zone.hashCode() + 7;
+	}
+
+	@Override
+	public String toString() {
+		return "HighResolutionClock[" + zone + "]";
+	}
+
+}
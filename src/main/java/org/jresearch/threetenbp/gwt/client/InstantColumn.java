@@ -0,0 +1,217 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable column of instants, held as epoch-milliseconds in a
+ * {@code double[]}.
+ * <p>
+ * A column uses far less memory than a {@code List<Instant>}, as no instant
+ * objects are kept, and the values can be passed straight to JavaScript. Views
+ * share the milliseconds of the column they are created from. Range queries use
+ * a binary search and need a column in ascending order, such as one returned by
+ * {@link #sorted()}.
+ * <p>
+ * Instants are held to millisecond precision, as by
+ * {@link Instant#toEpochMilliDouble()}, and are exact within &plusmn;2<sup>53</sup>
+ * milliseconds of the epoch.
+ */
+public final class InstantColumn {
+
+	private final double[] epochMillis;
+	private final int from;
+	private final int to;
+
+	private InstantColumn(double[] epochMillis, int from, int to) {
+		this.epochMillis = epochMillis;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * Fractions of the instants smaller than milliseconds are dropped.
+	 *
+	 * @param instants the instants, not null, not containing null
+	 * @return the column of the instants, in the same order, not null
+	 */
+	public static InstantColumn of(List<Instant> instants) {
+		double[] epochMillis = new double[instants.size()];
+		for (int i = 0; i < epochMillis.length; i++) {
+			epochMillis[i] = instants.get(i).toEpochMilliDouble();
+		}
+		return new InstantColumn(epochMillis, 0, epochMillis.length);
+	}
+
+	/**
+	 * @param epochMillis the epoch-milliseconds, copied, not null
+	 * @return the column of the epoch-milliseconds, not null
+	 */
+	public static InstantColumn ofEpochMillis(double[] epochMillis) {
+		return new InstantColumn(epochMillis.clone(), 0, epochMillis.length);
+	}
+
+	/**
+	 * @return the number of instants in the column
+	 */
+	public int size() {
+		return to - from;
+	}
+
+	/**
+	 * @param index the index of the instant
+	 * @return the epoch-milliseconds at the index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public double getEpochMilli(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		return epochMillis[from + index];
+	}
+
+	/**
+	 * @param index the index of the instant
+	 * @return the instant at the index, not null
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 * @throws DateTimeException         if the value is not a valid instant
+	 */
+	public Instant get(int index) {
+		return Instant.ofEpochMilliDouble(getEpochMilli(index));
+	}
+
+	/**
+	 * @return a copy of the epoch-milliseconds of the column, not null
+	 */
+	public double[] toEpochMillis() {
+		return Arrays.copyOfRange(epochMillis, from, to);
+	}
+
+	/**
+	 * @return a list view of the column, creating the instants as they are read,
+	 *         not null
+	 */
+	public List<Instant> asList() {
+		return new AbstractList<Instant>() {
+			@Override
+			public Instant get(int index) {
+				return InstantColumn.this.get(index);
+			}
+
+			@Override
+			public int size() {
+				return InstantColumn.this.size();
+			}
+		};
+	}
+
+	/**
+	 * @param fromIndex the start index, inclusive
+	 * @param toIndex   the end index, exclusive
+	 * @return a view of part of the column, sharing the milliseconds, not null
+	 * @throws IndexOutOfBoundsException if the range is invalid
+	 */
+	public InstantColumn view(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+			throw new IndexOutOfBoundsException("Range: " + fromIndex + " to " + toIndex + ", Size: " + size());
+		}
+		return new InstantColumn(epochMillis, from + fromIndex, from + toIndex);
+	}
+
+	/**
+	 * @return a copy of the column in ascending order, not null
+	 */
+	public InstantColumn sorted() {
+		double[] copy = toEpochMillis();
+		Arrays.sort(copy);
+		return new InstantColumn(copy, 0, copy.length);
+	}
+
+	/**
+	 * Finds the order of the instants without changing the column.
+	 * <p>
+	 * The sort is stable, so equal instants keep their relative order.
+	 *
+	 * @return the indexes of the instants in ascending order, not null
+	 */
+	public int[] sortedOrder() {
+		return PackedKeys.sortedOrder(toEpochMillis());
+	}
+
+	/**
+	 * Finds the first instant that is at or after the specified instant.
+	 * <p>
+	 * The column must be in ascending order.
+	 *
+	 * @param instant the instant to find, not null
+	 * @return the index of the first instant at or after the instant, the size if
+	 *         there is none
+	 */
+	public int lowerBound(Instant instant) {
+		return bound(instant, false);
+	}
+
+	/**
+	 * Finds the first instant that is after the specified instant.
+	 * <p>
+	 * The column must be in ascending order.
+	 *
+	 * @param instant the instant to find, not null
+	 * @return the index of the first instant after the instant, the size if there
+	 *         is none
+	 */
+	public int upperBound(Instant instant) {
+		return bound(instant, true);
+	}
+
+	/**
+	 * Returns the instants in a range, using a binary search.
+	 * <p>
+	 * The column must be in ascending order.
+	 *
+	 * @param startInclusive the start instant, inclusive, not null
+	 * @param endExclusive   the end instant, exclusive, not null
+	 * @return a view of the instants in the range, not null
+	 */
+	public InstantColumn range(Instant startInclusive, Instant endExclusive) {
+		int start = lowerBound(startInclusive);
+		int end = Math.max(start, lowerBound(endExclusive));
+		return view(start, end);
+	}
+
+	private int bound(Instant instant, boolean upper) {
+		double millis = instant.toEpochMilliDouble();
+		// a sub-millisecond fraction places the instant after the whole millisecond
+		boolean fraction = instant.getNano() % 1000_000 != 0;
+		int low = from;
+		int high = to;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (epochMillis[mid] < millis || ((upper || fraction) && epochMillis[mid] == millis)) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low - from;
+	}
+
+	/**
+	 * Formats every instant in the column.
+	 * <p>
+	 * Formatting an instant needs a formatter with a zone, such as
+	 * {@link DateTimeFormatter#ISO_INSTANT}.
+	 *
+	 * @param formatter the formatter to use, not null
+	 * @return the formatted instants, in column order, not null
+	 * @throws DateTimeException if an error occurs during formatting
+	 */
+	public String[] format(DateTimeFormatter formatter) {
+		return formatter.formatAll(asList());
+	}
+
+}
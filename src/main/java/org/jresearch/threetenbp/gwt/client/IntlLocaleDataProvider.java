@@ -0,0 +1,46 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@link LocaleDataProvider} based on the browser {@code Intl} API.
+ */
+public class IntlLocaleDataProvider implements LocaleDataProvider {
+
+	@Override
+	@Nonnull
+	public String[] displayMonths(String style, boolean standalone, String locale) {
+		return SupportJs.displayMonths(style, standalone, locale);
+	}
+
+	@Override
+	@Nonnull
+	public String[] displayWeekdays(String style, boolean standalone, String locale) {
+		return SupportJs.displayWeekdays(style, standalone, locale);
+	}
+
+	@Override
+	@Nonnull
+	public String[] displayEras(String style, String locale) {
+		return SupportJs.displayEras(style, locale);
+	}
+
+	@Override
+	@Nonnull
+	public String[] displayAmpm(String style, String locale) {
+		return SupportJs.displayAmpm(style, locale);
+	}
+
+	@Override
+	@Nonnull
+	public DecimalProperty displayNumber(String locale) {
+		return SupportJs.displayNumber(locale);
+	}
+
+	@Override
+	@Nonnull
+	public int[] weekInfo(String region) {
+		return SupportJs.weekInfo(region);
+	}
+
+}
@@ -0,0 +1,41 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.chrono.IsoChronology;
+
+/**
+ * ISO calendar arithmetic on raw fields, matching {@code LocalDate}, for code
+ * that works without creating dates.
+ */
+final class IsoDays {
+
+	private IsoDays() {
+	}
+
+	/**
+	 * @param year  the proleptic year
+	 * @param month the month-of-year, from 1 to 12
+	 * @return the number of days in the month, from 28 to 31
+	 */
+	static int lengthOfMonth(int year, int month) {
+		switch (month) {
+		case 2:
+			return IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
+		}
+	}
+
+	/**
+	 * @param epochDay the epoch-day
+	 * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+	 */
+	static int dayOfWeek(long epochDay) {
+		return (int) Math.floorMod(epochDay + 3, 7) + 1;
+	}
+
+}
@@ -0,0 +1,219 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable column of dates, held as epoch-days in an {@code int[]}.
+ * <p>
+ * A column uses far less memory than a {@code List<LocalDate>}, as no date
+ * objects are kept. Views share the epoch-days of the column they are created
+ * from. Range queries use a binary search and need a column in ascending order,
+ * such as one returned by {@link #sorted()}.
+ * <p>
+ * Dates are limited to epoch-days that fit in an {@code int}, which is about
+ * 5.8 million years either side of 1970.
+ */
+public final class LocalDateColumn {
+
+	private final int[] epochDays;
+	private final int from;
+	private final int to;
+
+	private LocalDateColumn(int[] epochDays, int from, int to) {
+		this.epochDays = epochDays;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * @param dates the dates, not null, not containing null
+	 * @return the column of the dates, in the same order, not null
+	 * @throws DateTimeException if a date is outside the range of an {@code int}
+	 *                           epoch-day
+	 */
+	public static LocalDateColumn of(List<LocalDate> dates) {
+		int[] epochDays = new int[dates.size()];
+		for (int i = 0; i < epochDays.length; i++) {
+			epochDays[i] = toEpochDay(dates.get(i));
+		}
+		return new LocalDateColumn(epochDays, 0, epochDays.length);
+	}
+
+	/**
+	 * @param epochDays the epoch-days, copied, not null
+	 * @return the column of the epoch-days, not null
+	 */
+	public static LocalDateColumn ofEpochDays(int[] epochDays) {
+		return new LocalDateColumn(epochDays.clone(), 0, epochDays.length);
+	}
+
+	private static int toEpochDay(LocalDate date) {
+		long epochDay = date.toEpochDay();
+		if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+			throw new DateTimeException("LocalDate is outside the range of an int epoch-day: " + date);
+		}
+		return (int) epochDay;
+	}
+
+	/**
+	 * @return the number of dates in the column
+	 */
+	public int size() {
+		return to - from;
+	}
+
+	/**
+	 * @param index the index of the date
+	 * @return the epoch-day at the index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public int getEpochDay(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		return epochDays[from + index];
+	}
+
+	/**
+	 * @param index the index of the date
+	 * @return the date at the index, not null
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public LocalDate get(int index) {
+		return LocalDate.ofEpochDay(getEpochDay(index));
+	}
+
+	/**
+	 * @return a copy of the epoch-days of the column, not null
+	 */
+	public int[] toEpochDays() {
+		return Arrays.copyOfRange(epochDays, from, to);
+	}
+
+	/**
+	 * @return a list view of the column, creating the dates as they are read, not
+	 *         null
+	 */
+	public List<LocalDate> asList() {
+		return new AbstractList<LocalDate>() {
+			@Override
+			public LocalDate get(int index) {
+				return LocalDateColumn.this.get(index);
+			}
+
+			@Override
+			public int size() {
+				return LocalDateColumn.this.size();
+			}
+		};
+	}
+
+	/**
+	 * @param fromIndex the start index, inclusive
+	 * @param toIndex   the end index, exclusive
+	 * @return a view of part of the column, sharing the epoch-days, not null
+	 * @throws IndexOutOfBoundsException if the range is invalid
+	 */
+	public LocalDateColumn view(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+			throw new IndexOutOfBoundsException("Range: " + fromIndex + " to " + toIndex + ", Size: " + size());
+		}
+		return new LocalDateColumn(epochDays, from + fromIndex, from + toIndex);
+	}
+
+	/**
+	 * @return a copy of the column in ascending order, not null
+	 */
+	public LocalDateColumn sorted() {
+		int[] copy = toEpochDays();
+		Arrays.sort(copy);
+		return new LocalDateColumn(copy, 0, copy.length);
+	}
+
+	/**
+	 * Finds the order of the dates without changing the column.
+	 * <p>
+	 * The sort is stable, so equal dates keep their relative order.
+	 *
+	 * @return the indexes of the dates in ascending order, not null
+	 */
+	public int[] sortedOrder() {
+		double[] keys = new double[size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = epochDays[from + i];
+		}
+		return PackedKeys.sortedOrder(keys);
+	}
+
+	/**
+	 * Finds the first date that is on or after the specified date.
+	 * <p>
+	 * The column must be in ascending order.
+	 *
+	 * @param date the date to find, not null
+	 * @return the index of the first date on or after the date, the size if there
+	 *         is none
+	 */
+	public int lowerBound(LocalDate date) {
+		return bound(date.toEpochDay(), false);
+	}
+
+	/**
+	 * Finds the first date that is after the specified date.
+	 * <p>
+	 * The column must be in ascending order.
+	 *
+	 * @param date the date to find, not null
+	 * @return the index of the first date after the date, the size if there is
+	 *         none
+	 */
+	public int upperBound(LocalDate date) {
+		return bound(date.toEpochDay(), true);
+	}
+
+	/**
+	 * Returns the dates in a range, using a binary search.
+	 * <p>
+	 * The column must be in ascending order.
+	 *
+	 * @param startInclusive the start date, inclusive, not null
+	 * @param endExclusive   the end date, exclusive, not null
+	 * @return a view of the dates in the range, not null
+	 */
+	public LocalDateColumn range(LocalDate startInclusive, LocalDate endExclusive) {
+		int start = lowerBound(startInclusive);
+		int end = Math.max(start, lowerBound(endExclusive));
+		return view(start, end);
+	}
+
+	private int bound(long epochDay, boolean upper) {
+		int low = from;
+		int high = to;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (epochDays[mid] < epochDay || (upper && epochDays[mid] == epochDay)) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low - from;
+	}
+
+	/**
+	 * Formats every date in the column.
+	 *
+	 * @param formatter the formatter to use, not null
+	 * @return the formatted dates, in column order, not null
+	 * @throws DateTimeException if an error occurs during formatting
+	 */
+	public String[] format(DateTimeFormatter formatter) {
+		return formatter.formatAll(asList());
+	}
+
+}
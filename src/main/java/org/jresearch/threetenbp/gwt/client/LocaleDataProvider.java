@@ -0,0 +1,60 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Source of the localized text and number symbols used by
+ * {@code java.time.format}. The implementation is selected by the GWT
+ * property {@code gwt.time.localeData}:
+ * <ul>
+ * <li>{@code intl} (default) - {@link IntlLocaleDataProvider}, probes the
+ * browser {@code Intl} API</li>
+ * <li>{@code cldr} - {@link CldrLocaleDataProvider}, uses the CLDR tables
+ * generated at compile time for the locales of the permutation</li>
+ * </ul>
+ */
+public interface LocaleDataProvider {
+
+	/**
+	 * @param style  - "2-digit", "numeric", "narrow", "short", "long"
+	 * @param locale - language tag
+	 */
+	@Nonnull
+	String[] displayMonths(String style, boolean standalone, String locale);
+
+	/**
+	 * @param style  - "narrow", "short", "long"
+	 * @param locale - language tag
+	 */
+	@Nonnull
+	String[] displayWeekdays(String style, boolean standalone, String locale);
+
+	/**
+	 * @param style  - "narrow", "short", "long"
+	 * @param locale - language tag
+	 */
+	@Nonnull
+	String[] displayEras(String style, String locale);
+
+	/**
+	 * @param style  - "narrow", "short", "long"
+	 * @param locale - language tag
+	 */
+	@Nonnull
+	String[] displayAmpm(String style, String locale);
+
+	/**
+	 * @param locale - language tag
+	 */
+	@Nonnull
+	DecimalProperty displayNumber(String locale);
+
+	/**
+	 * @param region - region code, empty for none
+	 * @return first day-of-week (1 = Monday to 7 = Sunday) and minimal days in
+	 *         the first week
+	 */
+	@Nonnull
+	int[] weekInfo(String region);
+
+}
@@ -0,0 +1,199 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Helpers for sorting and range filtering by packed keys.
+ * <p>
+ * A packed key is a {@code double} that sorts in the same order as the value it
+ * was created from, see {@link LocalDate#toPackedKey()},
+ * {@link LocalTime#toPackedKey()} and {@link LocalDateTime#toPackedKey()}. Keys
+ * can be sorted with {@link java.util.Arrays#sort(double[])}, or used to find the
+ * order of the rows of a grid with {@link #sortedOrder(double[])}, without
+ * comparing any objects.
+ * <p>
+ * The key of a date-time is only precise to the millisecond, so date-times within
+ * the same millisecond have equal keys, and sorting by the keys alone is only
+ * millisecond-stable. The nano-of-millisecond from {@link #nanosOfMilli(List)}
+ * breaks those ties in {@link #sortedOrder(double[], int[])}, and recreates the
+ * date-time with {@link #ofDateTime(double, int)}.
+ */
+public final class PackedKeys {
+
+	private PackedKeys() {
+	}
+
+	/**
+	 * @param dates the dates, not null, not containing null
+	 * @return the packed keys of the dates, in the same order, not null
+	 */
+	public static double[] ofDates(List<LocalDate> dates) {
+		double[] keys = new double[dates.size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = dates.get(i).toPackedKey();
+		}
+		return keys;
+	}
+
+	/**
+	 * @param times the times, not null, not containing null
+	 * @return the packed keys of the times, in the same order, not null
+	 */
+	public static double[] ofTimes(List<LocalTime> times) {
+		double[] keys = new double[times.size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = times.get(i).toPackedKey();
+		}
+		return keys;
+	}
+
+	/**
+	 * @param dateTimes the date-times, not null, not containing null
+	 * @return the packed keys of the date-times, in the same order, not null
+	 * @throws java.time.DateTimeException if a date-time is outside the range of a
+	 *                                     packed key
+	 */
+	public static double[] ofDateTimes(List<LocalDateTime> dateTimes) {
+		double[] keys = new double[dateTimes.size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = dateTimes.get(i).toPackedKey();
+		}
+		return keys;
+	}
+
+	/**
+	 * @param dateTimes the date-times, not null, not containing null
+	 * @return the nano-of-millisecond of the date-times, from 0 to 999,999, in the
+	 *         same order, not null
+	 */
+	public static int[] nanosOfMilli(List<LocalDateTime> dateTimes) {
+		int[] nanos = new int[dateTimes.size()];
+		for (int i = 0; i < nanos.length; i++) {
+			nanos[i] = dateTimes.get(i).getNano() % 1000_000;
+		}
+		return nanos;
+	}
+
+	/**
+	 * @param packedKey   the packed key, as returned by {@link LocalDateTime#toPackedKey()}
+	 * @param nanoOfMilli the nano-of-millisecond, as returned by {@link #nanosOfMilli(List)}
+	 * @return the date-time, not null
+	 * @throws java.time.DateTimeException if the packed key is invalid
+	 * @throws IllegalArgumentException    if the nano-of-millisecond is invalid
+	 */
+	public static LocalDateTime ofDateTime(double packedKey, int nanoOfMilli) {
+		if (nanoOfMilli < 0 || nanoOfMilli >= 1000_000) {
+			throw new IllegalArgumentException("Invalid nano-of-millisecond: " + nanoOfMilli);
+		}
+		// the key has no sub-millisecond part, so this stays within the millisecond
+		return LocalDateTime.ofPackedKey(packedKey).plusNanos(nanoOfMilli);
+	}
+
+	/**
+	 * Finds the order of the keys without changing them.
+	 * <p>
+	 * The sort is stable, so equal keys keep their relative order.
+	 *
+	 * @param keys the keys, not null
+	 * @return the indexes of the keys in ascending key order, not null
+	 */
+	public static int[] sortedOrder(double[] keys) {
+		return sortedOrder(keys, null);
+	}
+
+	/**
+	 * Finds the order of the keys, breaking ties by a second key, without changing
+	 * them.
+	 * <p>
+	 * With the keys and nano-of-millisecond of date-times, this is the order of
+	 * {@link LocalDateTime#compareTo}. The sort is stable, so entries equal in both
+	 * keys keep their relative order.
+	 *
+	 * @param keys     the keys, not null
+	 * @param tieKeys  the keys breaking ties, of the same length, null to not break ties
+	 * @return the indexes of the keys in ascending order, not null
+	 * @throws IllegalArgumentException if the arrays differ in length
+	 */
+	public static int[] sortedOrder(double[] keys, int[] tieKeys) {
+		if (tieKeys != null && tieKeys.length != keys.length) {
+			throw new IllegalArgumentException("Arrays must have the same length");
+		}
+		int[] order = new int[keys.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		int[] work = new int[order.length];
+		// bottom up merge sort of the indexes
+		for (int width = 1; width < order.length; width *= 2) {
+			for (int low = 0; low < order.length - width; low += 2 * width) {
+				int mid = low + width;
+				int high = Math.min(low + 2 * width, order.length);
+				if (inOrder(keys, tieKeys, order[mid - 1], order[mid])) {
+					continue;
+				}
+				int left = low;
+				int right = mid;
+				for (int i = low; i < high; i++) {
+					if (right >= high || (left < mid && inOrder(keys, tieKeys, order[left], order[right]))) {
+						work[i] = order[left++];
+					} else {
+						work[i] = order[right++];
+					}
+				}
+				System.arraycopy(work, low, order, low, high - low);
+			}
+		}
+		return order;
+	}
+
+	private static boolean inOrder(double[] keys, int[] tieKeys, int first, int second) {
+		if (keys[first] != keys[second] || tieKeys == null) {
+			return keys[first] <= keys[second];
+		}
+		return tieKeys[first] <= tieKeys[second];
+	}
+
+	/**
+	 * @param sortedKeys the keys, sorted in ascending order, not null
+	 * @param key        the key to find
+	 * @return the index of the first key that is greater than or equal to the key,
+	 *         the length if there is none
+	 */
+	public static int lowerBound(double[] sortedKeys, double key) {
+		int low = 0;
+		int high = sortedKeys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sortedKeys[mid] < key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * @param sortedKeys the keys, sorted in ascending order, not null
+	 * @param key        the key to find
+	 * @return the index of the first key that is greater than the key, the length
+	 *         if there is none
+	 */
+	public static int upperBound(double[] sortedKeys, double key) {
+		int low = 0;
+		int high = sortedKeys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sortedKeys[mid] <= key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+}
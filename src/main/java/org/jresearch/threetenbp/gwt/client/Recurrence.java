@@ -0,0 +1,547 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A recurrence rule, expanded lazily into occurrences as epoch-seconds.
+ * <p>
+ * A rule repeats a local date-time in a time-zone every {@code interval} days,
+ * weeks, months or years, in the way of an iCalendar {@code RRULE}. Weekly rules
+ * repeat on a set of days-of-week, in weeks starting on Monday. Monthly and
+ * yearly rules repeat on a day-of-month, counted from the end of the month if
+ * negative, or on a day-of-week-in-month such as the last Friday, in the month of
+ * the start for yearly rules. Periods without a matching date, such as the 31st of
+ * a month of 30 days, are skipped. Occurrences are at or after the start, which is
+ * only an occurrence itself if it matches the rule.
+ * <p>
+ * Local date-times are converted as by {@link ZonedDateTime#of(LocalDateTime, ZoneId)}:
+ * a time in a gap moves later by the length of the gap and a time in an overlap
+ * uses the earlier offset. The offset is carried from one transition of the zone
+ * rules to the next, rather than looked up for every occurrence.
+ * <p>
+ * Occurrences are produced in ascending order by a {@link Cursor}, which can start
+ * at any instant without expanding the series before it. The end of a series
+ * limited by a count is found when the rule is built: it is calculated for daily
+ * rules and weekly rules on a single day-of-week, other rules are expanded once.
+ * A rule is immutable, a cursor is not thread-safe.
+ */
+public final class Recurrence {
+
+	/**
+	 * The frequency of a recurrence.
+	 */
+	public enum Frequency {
+		/** Repeats on days. */
+		DAILY,
+		/** Repeats on days-of-week of weeks starting on Monday. */
+		WEEKLY,
+		/** Repeats on a day of months. */
+		MONTHLY,
+		/** Repeats on a day of the month of the start in years. */
+		YEARLY
+	}
+
+	private static final int SECONDS_PER_DAY = 86400;
+	private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+	/** Month lengths and days-of-week repeat every 400 years, so a rule matching no date in as many months never will. */
+	private static final int MAX_EMPTY_PERIODS = 400 * 12;
+	private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+	private final Frequency frequency;
+	private final int interval;
+	private final long startEpochDay;
+	private final long startMonthIndex;
+	private final int secondOfDay;
+	private final ZoneRules rules;
+	/** The days-of-week of a weekly rule, bit 0 for Monday. */
+	private final int daysOfWeek;
+	/** The day-of-month of a monthly or yearly rule, 0 if by day-of-week-in-month. */
+	private final int dayOfMonth;
+	private final int ordinal;
+	private final int dayOfWeek;
+	/** The number of occurrences, 0 if unlimited. */
+	private final int count;
+	/** The last epoch-second, inclusive. */
+	private final long until;
+	/** The last epoch-second of the series, inclusive, allowed by the until and the count. */
+	private final long last;
+
+	private Recurrence(Builder builder) {
+		this.frequency = builder.frequency;
+		this.interval = builder.interval;
+		this.startEpochDay = builder.start.toLocalDate().toEpochDay();
+		this.startMonthIndex = builder.start.getYear() * 12L + builder.start.getMonthValue() - 1;
+		this.secondOfDay = builder.start.toLocalTime().toSecondOfDay();
+		this.rules = builder.zone.getRules();
+		this.daysOfWeek = builder.daysOfWeek != 0 ? builder.daysOfWeek
+				: 1 << (builder.start.getDayOfWeek().getValue() - 1);
+		this.dayOfMonth = builder.ordinal != 0 ? 0
+				: (builder.dayOfMonth != 0 ? builder.dayOfMonth : builder.start.getDayOfMonth());
+		this.ordinal = builder.ordinal;
+		this.dayOfWeek = builder.dayOfWeek;
+		this.count = builder.count;
+		this.until = builder.until;
+		this.last = count == 0 ? until : lastCounted(builder.zone);
+	}
+
+	/**
+	 * Starts a rule repeating the start date-time every period.
+	 * <p>
+	 * A weekly rule repeats on the day-of-week of the start, a monthly or yearly
+	 * rule on the day-of-month of the start, unless set otherwise.
+	 *
+	 * @param frequency the frequency, not null
+	 * @param start     the local date-time of the start, to the second, not null
+	 * @param zone      the time-zone, not null
+	 * @return the builder, not null
+	 */
+	public static Builder builder(Frequency frequency, LocalDateTime start, ZoneId zone) {
+		Objects.requireNonNull(frequency, "frequency");
+		Objects.requireNonNull(start, "start");
+		Objects.requireNonNull(zone, "zone");
+		return new Builder(frequency, start, zone);
+	}
+
+	/**
+	 * @return a cursor over all occurrences, not null
+	 */
+	public Cursor cursor() {
+		return new Cursor(Long.MIN_VALUE, count, until);
+	}
+
+	/**
+	 * The occurrences before the instant are not expanded, the cursor starts in
+	 * the period of the instant.
+	 *
+	 * @param fromEpochSecond the first epoch-second, inclusive
+	 * @return a cursor over the occurrences at or after the epoch-second, not null
+	 */
+	public Cursor cursor(long fromEpochSecond) {
+		return new Cursor(fromEpochSecond, 0, last);
+	}
+
+	/**
+	 * @return the occurrences as a stream of epoch-seconds, not null
+	 */
+	public LongStream stream() {
+		return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(cursor(),
+				Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+	}
+
+	/**
+	 * Evaluates a window of the series, such as the visible part of a calendar.
+	 *
+	 * @param fromEpochSecond the start of the window, inclusive
+	 * @param toEpochSecond   the end of the window, exclusive
+	 * @return the epoch-seconds of the occurrences in the window, ascending, not null
+	 */
+	public long[] between(long fromEpochSecond, long toEpochSecond) {
+		long[] result = new long[8];
+		int size = 0;
+		Cursor cursor = cursor(fromEpochSecond);
+		while (cursor.hasNext()) {
+			long epochSecond = cursor.nextLong();
+			if (epochSecond >= toEpochSecond) {
+				break;
+			}
+			if (size == result.length) {
+				result = Arrays.copyOf(result, size * 2);
+			}
+			result[size++] = epochSecond;
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Gets the last occurrence allowed by the count, replacing the count so that
+	 * cursors can start anywhere.
+	 *
+	 * @return the last epoch-second, inclusive
+	 */
+	private long lastCounted(ZoneId zone) {
+		long lastDay;
+		if (frequency == Frequency.DAILY) {
+			lastDay = startEpochDay + (count - 1L) * interval;
+		} else if (frequency == Frequency.WEEKLY && Integer.bitCount(daysOfWeek) == 1) {
+			int index = Integer.numberOfTrailingZeros(daysOfWeek);
+			int startIndex = IsoDays.dayOfWeek(startEpochDay) - 1;
+			long startWeek = startEpochDay - startIndex;
+			// the first week has the day only from the day-of-week of the start
+			long periods = (index >= startIndex ? 0 : 1) + (count - 1L);
+			if (periods > (MAX_EPOCH_DAY - startWeek) / (7L * interval)) {
+				return until;
+			}
+			lastDay = startWeek + periods * 7L * interval + index;
+		} else {
+			long lastSecond = Long.MIN_VALUE;
+			Cursor cursor = cursor();
+			while (cursor.hasNext()) {
+				lastSecond = cursor.nextLong();
+			}
+			return lastSecond;
+		}
+		if (lastDay > MAX_EPOCH_DAY) {
+			return until;
+		}
+		LocalDateTime dateTime = LocalDate.ofEpochDay(lastDay).atTime(LocalTime.ofSecondOfDay(secondOfDay));
+		return Math.min(ZonedDateTime.of(dateTime, zone).toEpochSecond(), until);
+	}
+
+	/**
+	 * Gets the epoch-day of the matching date of a month.
+	 *
+	 * @return the epoch-day, {@code Long.MIN_VALUE} if no date of the month matches
+	 */
+	private long dayInMonth(int year, int month) {
+		int length = IsoDays.lengthOfMonth(year, month);
+		int day;
+		if (dayOfMonth > 0) {
+			day = dayOfMonth;
+		} else if (dayOfMonth < 0) {
+			day = length + dayOfMonth + 1;
+		} else if (ordinal > 0) {
+			int firstDow = LocalDate.of(year, month, 1).getDayOfWeek().getValue();
+			day = 1 + (dayOfWeek - firstDow + 7) % 7 + (ordinal - 1) * 7;
+		} else {
+			int lastDow = LocalDate.of(year, month, length).getDayOfWeek().getValue();
+			day = length - (lastDow - dayOfWeek + 7) % 7 + (ordinal + 1) * 7;
+		}
+		if (day < 1 || day > length) {
+			return Long.MIN_VALUE;
+		}
+		return LocalDate.of(year, month, day).toEpochDay();
+	}
+
+	@Override
+	public String toString() {
+		return "Recurrence[" + frequency + ", interval " + interval + "]";
+	}
+
+	// -----------------------------------------------------------------------
+	/**
+	 * A lazy iterator over the occurrences of a rule, as epoch-seconds.
+	 */
+	public final class Cursor implements PrimitiveIterator.OfLong {
+
+		private final long from;
+		private final long limit;
+		/** The occurrences left by the count, -1 if unlimited. */
+		private int remaining;
+		/** The index of the current period from the period of the start. */
+		private long period;
+		/** The next day-of-week of the week to check, for weekly rules. */
+		private int weekDay;
+		private boolean done;
+		private boolean ready;
+		private long next;
+		/** The offset in seconds of local date-times before the next transition. */
+		private int offset;
+		/** The local epoch-second from which the offset after the next transition applies. */
+		private long offsetLimit = Long.MIN_VALUE;
+		private ZoneOffsetTransition transition;
+
+		Cursor(long from, int count, long limit) {
+			this.from = from;
+			this.limit = limit;
+			this.remaining = count == 0 ? -1 : count;
+			if (from > Long.MIN_VALUE + MAX_OFFSET_SECONDS) {
+				// the earliest local date of the instant in any offset
+				long fromDay = Math.floorDiv(from - MAX_OFFSET_SECONDS, SECONDS_PER_DAY);
+				if (fromDay > startEpochDay) {
+					period = firstPeriod(Math.min(fromDay, MAX_EPOCH_DAY));
+				}
+			}
+		}
+
+		private long firstPeriod(long epochDay) {
+			switch (frequency) {
+			case DAILY:
+				return (epochDay - startEpochDay) / interval;
+			case WEEKLY:
+				long startWeek = startEpochDay - (IsoDays.dayOfWeek(startEpochDay) - 1);
+				return (epochDay - startWeek) / (7L * interval);
+			default:
+				LocalDate date = LocalDate.ofEpochDay(epochDay);
+				long monthIndex = date.getYear() * 12L + date.getMonthValue() - 1;
+				return (monthIndex - startMonthIndex) / (frequency == Frequency.MONTHLY ? interval : 12L * interval);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (ready == false && done == false) {
+				advance();
+			}
+			return ready;
+		}
+
+		@Override
+		public long nextLong() {
+			if (hasNext() == false) {
+				throw new NoSuchElementException();
+			}
+			ready = false;
+			return next;
+		}
+
+		/**
+		 * Fills a buffer with the next occurrences.
+		 *
+		 * @param buffer the buffer to fill from index zero, not null
+		 * @return the number of occurrences filled, less than the length only at the end
+		 */
+		public int next(long[] buffer) {
+			int size = 0;
+			while (size < buffer.length && hasNext()) {
+				buffer[size++] = nextLong();
+			}
+			return size;
+		}
+
+		private void advance() {
+			while (remaining != 0) {
+				long epochDay = nextEpochDay();
+				if (epochDay == Long.MIN_VALUE) {
+					break;
+				}
+				long epochSecond = toEpochSecond(epochDay * SECONDS_PER_DAY + secondOfDay);
+				if (epochSecond > limit) {
+					break;
+				}
+				if (epochSecond >= from) {
+					if (remaining > 0) {
+						remaining--;
+					}
+					next = epochSecond;
+					ready = true;
+					return;
+				}
+			}
+			done = true;
+		}
+
+		/**
+		 * @return the epoch-day of the next matching date, {@code Long.MIN_VALUE} at the end
+		 */
+		private long nextEpochDay() {
+			switch (frequency) {
+			case DAILY: {
+				long epochDay = startEpochDay + period++ * interval;
+				return epochDay > MAX_EPOCH_DAY ? Long.MIN_VALUE : epochDay;
+			}
+			case WEEKLY: {
+				long startWeek = startEpochDay - (IsoDays.dayOfWeek(startEpochDay) - 1);
+				while (true) {
+					long weekStart = startWeek + period * 7L * interval;
+					while (weekDay < 7) {
+						int index = weekDay++;
+						long epochDay = weekStart + index;
+						if ((daysOfWeek & (1 << index)) != 0 && epochDay >= startEpochDay) {
+							return epochDay > MAX_EPOCH_DAY ? Long.MIN_VALUE : epochDay;
+						}
+					}
+					if (weekStart > MAX_EPOCH_DAY) {
+						return Long.MIN_VALUE;
+					}
+					weekDay = 0;
+					period++;
+				}
+			}
+			default: {
+				long step = frequency == Frequency.MONTHLY ? interval : 12L * interval;
+				for (int empty = 0; empty < MAX_EMPTY_PERIODS; empty++) {
+					long monthIndex = startMonthIndex + period++ * step;
+					long year = Math.floorDiv(monthIndex, 12);
+					if (year > Year.MAX_VALUE) {
+						return Long.MIN_VALUE;
+					}
+					long epochDay = dayInMonth((int) year, (int) Math.floorMod(monthIndex, 12) + 1);
+					if (epochDay >= startEpochDay) {
+						return epochDay;
+					}
+				}
+				return Long.MIN_VALUE;
+			}
+			}
+		}
+
+		/**
+		 * Converts a local epoch-second, never earlier than the previous one.
+		 * <p>
+		 * The offset before a transition applies up to the later of the local
+		 * date-times either side of it, which resolves gaps and overlaps like
+		 * {@code ZonedDateTime.of}.
+		 */
+		private long toEpochSecond(long localSecond) {
+			if (offsetLimit == Long.MIN_VALUE) {
+				long search = Math.max(localSecond - MAX_OFFSET_SECONDS - 1, Instant.MIN.getEpochSecond());
+				Instant instant = Instant.ofEpochSecond(search);
+				offset = rules.getOffset(instant).getTotalSeconds();
+				setTransition(rules.nextTransition(instant));
+			}
+			while (localSecond >= offsetLimit) {
+				offset = transition.getOffsetAfter().getTotalSeconds();
+				setTransition(rules.nextTransition(transition.getInstant()));
+			}
+			return localSecond - offset;
+		}
+
+		private void setTransition(ZoneOffsetTransition transition) {
+			this.transition = transition;
+			if (transition == null) {
+				offsetLimit = Long.MAX_VALUE;
+			} else {
+				offsetLimit = transition.toEpochSecond() + Math.max(transition.getOffsetBefore().getTotalSeconds(),
+						transition.getOffsetAfter().getTotalSeconds());
+			}
+		}
+	}
+
+	// -----------------------------------------------------------------------
+	/**
+	 * Builder of a recurrence rule.
+	 */
+	public static final class Builder {
+
+		private final Frequency frequency;
+		private final LocalDateTime start;
+		private final ZoneId zone;
+		private int interval = 1;
+		private int daysOfWeek;
+		private int dayOfMonth;
+		private int ordinal;
+		private int dayOfWeek;
+		private int count;
+		private long until = Long.MAX_VALUE;
+
+		private Builder(Frequency frequency, LocalDateTime start, ZoneId zone) {
+			this.frequency = frequency;
+			this.start = start;
+			this.zone = zone;
+		}
+
+		/**
+		 * @param interval the number of periods between repeats, from 1
+		 * @return this, repeating every {@code interval} periods
+		 * @throws IllegalArgumentException if the interval is less than 1
+		 */
+		public Builder interval(int interval) {
+			if (interval < 1) {
+				throw new IllegalArgumentException("Interval must be positive: " + interval);
+			}
+			this.interval = interval;
+			return this;
+		}
+
+		/**
+		 * @param days the days-of-week, not null, not empty
+		 * @return this, repeating a weekly rule on the days
+		 * @throws IllegalStateException if the rule is not weekly
+		 * @throws IllegalArgumentException if there are no days
+		 */
+		public Builder onDays(DayOfWeek... days) {
+			checkFrequency(frequency == Frequency.WEEKLY, "Days-of-week need a weekly rule");
+			if (days.length == 0) {
+				throw new IllegalArgumentException("Days-of-week must not be empty");
+			}
+			int mask = 0;
+			for (DayOfWeek day : days) {
+				mask |= 1 << (Objects.requireNonNull(day, "day").getValue() - 1);
+			}
+			this.daysOfWeek = mask;
+			return this;
+		}
+
+		/**
+		 * @param dayOfMonth the day-of-month, from 1 to 31, or from -31 to -1 counting from
+		 *                   the end of the month
+		 * @return this, repeating a monthly or yearly rule on the day
+		 * @throws IllegalStateException if the rule is not monthly or yearly
+		 * @throws IllegalArgumentException if the day is invalid
+		 */
+		public Builder onDayOfMonth(int dayOfMonth) {
+			checkFrequency(frequency == Frequency.MONTHLY || frequency == Frequency.YEARLY,
+					"Day-of-month needs a monthly or yearly rule");
+			if (dayOfMonth == 0 || dayOfMonth < -31 || dayOfMonth > 31) {
+				throw new IllegalArgumentException("Invalid day-of-month: " + dayOfMonth);
+			}
+			this.dayOfMonth = dayOfMonth;
+			this.ordinal = 0;
+			return this;
+		}
+
+		/**
+		 * @param ordinal   the week of the month, from 1 to 5, or from -5 to -1 counting from
+		 *                  the end of the month
+		 * @param dayOfWeek the day-of-week, not null
+		 * @return this, repeating a monthly or yearly rule on the day-of-week-in-month
+		 * @throws IllegalStateException if the rule is not monthly or yearly
+		 * @throws IllegalArgumentException if the ordinal is invalid
+		 */
+		public Builder onDayOfWeekInMonth(int ordinal, DayOfWeek dayOfWeek) {
+			checkFrequency(frequency == Frequency.MONTHLY || frequency == Frequency.YEARLY,
+					"Day-of-week-in-month needs a monthly or yearly rule");
+			Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+			if (ordinal == 0 || ordinal < -5 || ordinal > 5) {
+				throw new IllegalArgumentException("Invalid ordinal: " + ordinal);
+			}
+			this.ordinal = ordinal;
+			this.dayOfWeek = dayOfWeek.getValue();
+			this.dayOfMonth = 0;
+			return this;
+		}
+
+		/**
+		 * @param count the number of occurrences, from 1
+		 * @return this, ending after the occurrences
+		 * @throws IllegalArgumentException if the count is less than 1
+		 */
+		public Builder count(int count) {
+			if (count < 1) {
+				throw new IllegalArgumentException("Count must be positive: " + count);
+			}
+			this.count = count;
+			return this;
+		}
+
+		/**
+		 * @param epochSecond the last epoch-second, inclusive
+		 * @return this, ending at the epoch-second
+		 */
+		public Builder until(long epochSecond) {
+			this.until = epochSecond;
+			return this;
+		}
+
+		/**
+		 * @return the rule, not null
+		 */
+		public Recurrence build() {
+			return new Recurrence(this);
+		}
+
+		private static void checkFrequency(boolean valid, String message) {
+			if (valid == false) {
+				throw new IllegalStateException(message);
+			}
+		}
+	}
+
+}
@@ -27,10 +27,14 @@ public class Support {
 
 	private static final TimeJsBundle bundle = GWT.create(TimeJsBundle.class);
 
+	private static final LocaleDataProvider localeData = GWT.create(LocaleDataProvider.class);
+
 	private static boolean commonInitialized = false;
 	private static boolean tzTnitializing = false;
 	private static boolean tzTnitialized = false;
 
+	private static String hijrahDeviation;
+
 	static {
 		init();
 	}
@@ -82,10 +86,41 @@ public class Support {
 		}
 	}
 
-	public static float getTimestamp() {
+	/**
+	 * Replaces the bundled Hijrah calendar deviation configuration. Has effect
+	 * only if called before the first Hijrah date is computed.
+	 *
+	 * @param config - deviation data in the {@code hijrah_deviation.cfg} format
+	 */
+	public static void setHijrahDeviation(@Nonnull String config) {
+		hijrahDeviation = config;
+	}
+
+	/**
+	 * @return the Hijrah calendar deviation configuration, the bundled
+	 *         {@code hijrah_deviation.cfg} unless replaced
+	 */
+	@Nonnull
+	public static String getHijrahDeviation() {
+		return hijrahDeviation == null ? bundle.hijrahDeviation().getText() : hijrahDeviation;
+	}
+
+	/**
+	 * @return milliseconds from the epoch, with the sub-millisecond fraction when
+	 *         the browser provides it
+	 */
+	public static double getTimestamp() {
 		return SupportJs.getTimestamp();
 	}
 
+	/**
+	 * @return monotonic milliseconds from an arbitrary origin, with the
+	 *         sub-millisecond fraction when the browser provides it
+	 */
+	public static double getTicks() {
+		return SupportJs.getTicks();
+	}
+
 	@Nonnull
 	public static String getTimezone() {
 		return SupportJs.getTimezone();
@@ -110,7 +145,7 @@ public class Support {
 	 */
 	@Nonnull
 	public static String[] displayMonths(String style, boolean standalone, String locale) {
-		return SupportJs.displayMonths(style, standalone, locale);
+		return localeData.displayMonths(style, standalone, locale);
 	}
 
 	/**
@@ -119,7 +154,7 @@ public class Support {
 	 */
 	@Nonnull
 	public static String[] displayWeekdays(String style, boolean standalone, String locale) {
-		return SupportJs.displayWeekdays(style, standalone, locale);
+		return localeData.displayWeekdays(style, standalone, locale);
 	}
 
 	/**
@@ -128,7 +163,7 @@ public class Support {
 	 */
 	@Nonnull
 	public static String[] displayEras(String style, String locale) {
-		return SupportJs.displayEras(style, locale);
+		return localeData.displayEras(style, locale);
 	}
 
 	/**
@@ -137,12 +172,38 @@ public class Support {
 	 */
 	@Nonnull
 	public static String[] displayAmpm(String style, String locale) {
-		return SupportJs.displayAmpm(style, locale);
+		return localeData.displayAmpm(style, locale);
+	}
+
+	/**
+	 * Returns the {@link java.time.format.DateTimeFormatter} pattern derived
+	 * from the browser localized date/time format
+	 *
+	 * @param dateStyle - "full", "long", "medium", "short" or null
+	 * @param timeStyle - "full", "long", "medium", "short" or null
+	 * @param calendar  - Intl calendar type
+	 * @param locale    - language tag
+	 * @return the pattern or empty string if the browser is unable to provide
+	 *         it
+	 */
+	@Nonnull
+	public static String displayPattern(String dateStyle, String timeStyle, String calendar, String locale) {
+		return SupportJs.displayPattern(dateStyle, timeStyle, calendar, locale);
 	}
 
 	@Nonnull
 	public static DecimalProperty displayNumber(String locale) {
-		return SupportJs.displayNumber(locale);
+		return localeData.displayNumber(locale);
+	}
+
+	/**
+	 * @param region - region code, empty for none
+	 * @return first day-of-week (1 = Monday to 7 = Sunday) and minimal days in
+	 *         the first week
+	 */
+	@Nonnull
+	public static int[] weekInfo(String region) {
+		return localeData.weekInfo(region);
 	}
 
 	@Nonnull
@@ -16,7 +16,11 @@ public class SupportJs {
 
 	@Nonnull
 	@JsMethod(namespace = JsPackage.GLOBAL)
-	public static native float getTimestamp();
+	public static native double getTimestamp();
+
+	@Nonnull
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native double getTicks();
 
 	@Nonnull
 	@JsMethod(namespace = JsPackage.GLOBAL)
@@ -66,10 +70,29 @@ public class SupportJs {
 	@JsMethod(namespace = JsPackage.GLOBAL)
 	public static native String[] displayAmpm(String style, String locale);
 
+	/**
+	 * @param dateStyle - "full", "long", "medium", "short" or null
+	 * @param timeStyle - "full", "long", "medium", "short" or null
+	 * @param calendar  - Intl calendar type
+	 * @param locale    - language tag
+	 */
+	@Nonnull
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native String displayPattern(String dateStyle, String timeStyle, String calendar, String locale);
+
 	@Nonnull
 	@JsMethod(namespace = JsPackage.GLOBAL)
 	public static native DecimalProperty displayNumber(String locale);
 
+	/**
+	 * @param region - region code, empty for none
+	 * @return first day-of-week (1 = Monday to 7 = Sunday) and minimal days in
+	 *         the first week
+	 */
+	@Nonnull
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native int[] weekInfo(String region);
+
 	@Nonnull
 	@JsMethod(namespace = "Base64Binary")
 	public static native ArrayBuffer decodeArrayBuffer(String base64);
@@ -0,0 +1,44 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.Duration;
+
+/**
+ * A monotonic time source for measuring elapsed time, based on the browser
+ * {@code performance.now()}.
+ * <p>
+ * Ticks are milliseconds, with a sub-millisecond fraction, from an arbitrary
+ * origin. Unlike a {@link java.time.Clock}, they are not affected by changes to
+ * the system time, so only the difference between two ticks is meaningful.
+ */
+public final class Ticker {
+
+	private Ticker() {
+	}
+
+	/**
+	 * @return the current ticks in milliseconds from an arbitrary origin
+	 */
+	public static double read() {
+		return Support.getTicks();
+	}
+
+	/**
+	 * @param startTicks the ticks at the start of the interval, from
+	 *                   {@link #read()}
+	 * @return the time elapsed since the start, not null
+	 */
+	public static Duration elapsed(double startTicks) {
+		return between(startTicks, read());
+	}
+
+	/**
+	 * @param startTicks the ticks at the start of the interval
+	 * @param endTicks   the ticks at the end of the interval
+	 * @return the time between the ticks, rounded to the nearest nanosecond, not
+	 *         null
+	 */
+	public static Duration between(double startTicks, double endTicks) {
+		return Duration.ofNanos(Math.round((endTicks - startTicks) * 1_000_000));
+	}
+
+}
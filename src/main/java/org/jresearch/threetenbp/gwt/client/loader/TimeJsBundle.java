@@ -24,4 +24,8 @@ public interface TimeJsBundle extends ClientBundle {
 	@Source("TZDB.txt")
 	public TextResource tzdbEncoded();
 
+	@Nonnull
+	@Source("hijrah_deviation.cfg")
+	public TextResource hijrahDeviation();
+
 }
@@ -1,7 +1,11 @@
 if (window.performance.now) {
-    getTimestamp = function() { return window.performance.timing.navigationStart + window.performance.now(); };
+    var timeOrigin = window.performance.timeOrigin || window.performance.timing.navigationStart;
+    getTimestamp = function() { return timeOrigin + window.performance.now(); };
+    getTicks = function() { return window.performance.now(); };
 } else {
     getTimestamp = function() { return new Date().getTime(); };
+    var lastTicks = 0;
+    getTicks = function() { lastTicks = Math.max(lastTicks, new Date().getTime()); return lastTicks; };
 }
 
 if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && typeof Intl.DateTimeFormat().resolvedOptions == 'function') {
@@ -164,6 +168,58 @@ if (typeof Intl == 'object' && typeof Intl.NumberFormat == 'function'  && typeof
 	};
 }
 
+if (typeof Intl == 'object' && typeof Intl.Locale == 'function' && (typeof Intl.Locale.prototype.getWeekInfo == 'function' || 'weekInfo' in Intl.Locale.prototype)) {
+	weekInfo = function(region) {
+		try {
+			const locale = new Intl.Locale(region ? 'und-' + region : 'und').maximize();
+			const info = typeof locale.getWeekInfo == 'function' ? locale.getWeekInfo() : locale.weekInfo;
+			return [info.firstDay, info.minimalDays];
+		} catch (e) {
+			console.error("Error while call weekInfo, region %s: %s", region, e);
+			return weekInfoCldr(region);
+		}
+	};
+} else {
+	weekInfo = function(region) {
+		return weekInfoCldr(region);
+	};
+}
+
+if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && typeof Intl.DateTimeFormat().formatToParts == 'function') {
+	displayPattern = function(dateStyle, timeStyle, calendar, locale) {
+		try {
+			var options = { timeZone: 'UTC', calendar: calendar, numberingSystem: 'latn' };
+			if (dateStyle) {
+				options.dateStyle = dateStyle;
+			}
+			if (timeStyle) {
+				options.timeStyle = timeStyle;
+			}
+			const region = new Intl.DateTimeFormat(locale, options);
+			const resolved = region.resolvedOptions();
+			//Older browsers silently ignore dateStyle/timeStyle
+			if (resolved.dateStyle === undefined && resolved.timeStyle === undefined) {
+				return "";
+			}
+			//single digit month, day and hour to detect zero padding
+			const date = new Date(Date.UTC(2020, 0, 4, 5, 6, 7));
+			var result = "";
+			const parts = region.formatToParts(date);
+			for (var i = 0; i < parts.length; i++) {
+				result += toPatternPart(parts[i], resolved.hourCycle, timeStyle, calendar, locale, date);
+			}
+			return result;
+		} catch (e) {
+			console.error("Error while call displayPattern with dateStyle %s, timeStyle %s, calendar %s, locale %s: %s", dateStyle, timeStyle, calendar, locale, e);
+			return "";
+		}
+	};
+} else {
+	displayPattern = function(dateStyle, timeStyle, calendar, locale) {
+		return "";
+	};
+}
+
 function sleep(milliseconds) {
 	var start = getTimestamp();
 	var current = getTimestamp();
@@ -172,6 +228,85 @@ function sleep(milliseconds) {
 	}
 }
 
+function toPatternPart(part, hourCycle, timeStyle, calendar, locale, date) {
+	const value = part.value;
+	switch (part.type) {
+	case "era":
+		return repeatLetter("G", textLetterCount(part.type, value, calendar, locale, date));
+	case "year":
+		return value.length == 2 ? "yy" : "y";
+	case "month":
+		if (/^[0-9]+$/.test(value)) {
+			return value.length == 2 ? "MM" : "M";
+		}
+		return repeatLetter("M", textLetterCount(part.type, value, calendar, locale, date));
+	case "day":
+		return value.length == 2 ? "dd" : "d";
+	case "weekday":
+		return repeatLetter("E", textLetterCount(part.type, value, calendar, locale, date));
+	case "dayPeriod":
+		return "a";
+	case "hour":
+		return repeatLetter(hourLetter(hourCycle), value.length);
+	case "minute":
+		return value.length == 2 ? "mm" : "m";
+	case "second":
+		return value.length == 2 ? "ss" : "s";
+	case "fractionalSecond":
+		return repeatLetter("S", value.length);
+	case "timeZoneName":
+		return timeStyle === "full" ? "zzzz" : "z";
+	default:
+		return quoteLiteral(value);
+	}
+}
+
+function textLetterCount(type, value, calendar, locale, date) {
+	const styles = ["long", "short", "narrow"];
+	const counts = [4, 3, 5];
+	for (var j = 0; j < styles.length; j++) {
+		var options = { timeZone: 'UTC', calendar: calendar };
+		options[type] = styles[j];
+		//format (not standalone) month names
+		if (type === "month") {
+			options.day = 'numeric';
+		}
+		const found = new Intl.DateTimeFormat(locale, options).formatToParts(date).find(function(p) { return p.type === type; });
+		if (found !== undefined && found.value === value) {
+			return counts[j];
+		}
+	}
+	return 3;
+}
+
+function hourLetter(hourCycle) {
+	switch (hourCycle) {
+	case "h11":
+		return "K";
+	case "h12":
+		return "h";
+	case "h24":
+		return "k";
+	default:
+		return "H";
+	}
+}
+
+function repeatLetter(letter, count) {
+	var result = "";
+	for (var k = 0; k < count; k++) {
+		result += letter;
+	}
+	return result;
+}
+
+function quoteLiteral(value) {
+	if (/[A-Za-z'\[\]{}#]/.test(value)) {
+		return "'" + value.replace(/'/g, "''") + "'";
+	}
+	return value;
+}
+
 function displayTimeZoneModern(daylight, timeZone, style, locale) {
 	const region = new Intl.DateTimeFormat(locale, { timeZone: timeZone, timeZoneName: style });
 	const month = daylight ? 6 : 12;
@@ -219,4 +354,24 @@ function displayTimeZoneLegacy(daylight, timeZone, style, locale) {
 	const month = daylight ? 6 : 12;
 	const date = new Date(Date.UTC(2012, month, 20, 6, 0, 0));
 	return date.toLocaleDateString(locale, { timeZone: timeZone, timeZoneName: style }).slice(11);
-}
\ No newline at end of file
+}
+
+//CLDR supplemental week data, regions without a first day are Monday and without minimal days are 1
+const WEEK_FIRST_DAY = {
+	5: ' MV ',
+	6: ' AE AF BH DJ DZ EG IQ IR JO KW LY OM QA SD SY ',
+	7: ' AG AS AU BD BR BS BT BW BZ CA CN CO DM DO ET GT GU HK HN ID IL IN JM JP KE KH KR LA MH MM MO MT MX MZ NI NP PA PE PH PK PR PT PY SA SG SV TH TT TW UM US VE VI WS YE ZA ZW '
+};
+const WEEK_MINIMAL_DAYS_4 = ' AD AT AX BE BG CH CZ DE DK EE ES FI FJ FO FR GB GF GG GI GP GR HU IE IM IS IT JE LI LT LU MC MQ NL NO PL PT RE RU SE SJ SK SM VA ';
+
+function weekInfoCldr(region) {
+	//no region resolves to the likely region of und, US
+	const key = ' ' + (region ? region : 'US') + ' ';
+	var firstDay = 1;
+	for (var day in WEEK_FIRST_DAY) {
+		if (WEEK_FIRST_DAY[day].indexOf(key) >= 0) {
+			firstDay = Number(day);
+		}
+	}
+	return [firstDay, WEEK_MINIMAL_DAYS_4.indexOf(key) >= 0 ? 4 : 1];
+}
@@ -55,9 +55,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-import com.google.gwt.regexp.shared.MatchResult;
-import com.google.gwt.regexp.shared.RegExp;
-
 /**
  * A time-based amount of time, such as '34.5 seconds'.
  * <p>
@@ -109,12 +106,15 @@ public final class Duration
      */
     private static final BigInteger BI_NANOS_PER_SECOND = BigInteger.valueOf(NANOS_PER_SECOND);
     /**
-     * The pattern for parsing.
+     * The bound on the seconds for which multiplication and division
+     * by a small factor are exact in {@code double} arithmetic.
+     */
+    private static final long SMALL_SECONDS = 1L << 31;
+    /**
+     * The bound on a multiplicand or divisor for which multiplication and
+     * division are exact in {@code double} arithmetic.
      */
-    private final static RegExp PATTERN =
-    		RegExp.compile("([-+]?)P(?:([-+]?[0-9]+)D)?" +
-                    "(T(?:([-+]?[0-9]+)H)?(?:([-+]?[0-9]+)M)?(?:([-+]?[0-9]+)(?:[.,]([0-9]{0,9}))?S)?)?",
-                    "i");
+    private static final long SMALL_FACTOR = 1L << 21;
 
     /**
      * The number of seconds in the duration.
@@ -392,63 +392,169 @@ public final class Duration
      */
     public static Duration parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        MatchResult result = PATTERN.exec(text.toString());
-        if (result != null) {
-            // check for letter T but no time sections
-            if ("T".equals(result.getGroup(3)) == false) {
-                boolean negate = "-".equals(result.getGroup(1));
-                String dayMatch = result.getGroup(2);
-                String hourMatch = result.getGroup(4);
-                String minuteMatch = result.getGroup(5);
-                String secondMatch = result.getGroup(6);
-                String fractionMatch = result.getGroup(7);
-                if (dayMatch != null || hourMatch != null || minuteMatch != null || secondMatch != null) {
-                    long daysAsSecs = parseNumber(text, dayMatch, SECONDS_PER_DAY, "days");
-                    long hoursAsSecs = parseNumber(text, hourMatch, SECONDS_PER_HOUR, "hours");
-                    long minsAsSecs = parseNumber(text, minuteMatch, SECONDS_PER_MINUTE, "minutes");
-                    long seconds = parseNumber(text, secondMatch, 1, "seconds");
-                    boolean negativeSecs = secondMatch != null && secondMatch.charAt(0) == '-';
-                    int nanos = parseFraction(text,  fractionMatch, negativeSecs ? -1 : 1);
-                    try {
-                        return create(negate, daysAsSecs, hoursAsSecs, minsAsSecs, seconds, nanos);
-                    } catch (ArithmeticException ex) {
-                        throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: overflow", text, 0).initCause(ex);
+        //GWT specific
+        // a single pass scanner, equivalent to matching the whole text against
+        // ([-+]?)P(?:([-+]?[0-9]+)D)?(T(?:([-+]?[0-9]+)H)?(?:([-+]?[0-9]+)M)?(?:([-+]?[0-9]+)(?:[.,]([0-9]{0,9}))?S)?)?
+        int length = text.length();
+        int pos = 0;
+        boolean negate = false;
+        if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negate = text.charAt(pos) == '-';
+            pos++;
+        }
+        if (isLetter(text, pos, 'P')) {
+            pos++;
+            int dayStart = -1;
+            int dayEnd = -1;
+            int hourStart = -1;
+            int hourEnd = -1;
+            int minuteStart = -1;
+            int minuteEnd = -1;
+            int secondStart = -1;
+            int secondEnd = -1;
+            int fractionStart = -1;
+            int fractionEnd = -1;
+            boolean timeFound = true;
+            int end = scanNumber(text, pos);
+            if (isLetter(text, end, 'D')) {
+                dayStart = pos;
+                dayEnd = end;
+                pos = end + 1;
+            }
+            if (isLetter(text, pos, 'T')) {
+                // as in the JDK, only an upper case 'T' must be followed by a time section
+                boolean upperCaseT = text.charAt(pos) == 'T';
+                pos++;
+                end = scanNumber(text, pos);
+                if (isLetter(text, end, 'H')) {
+                    hourStart = pos;
+                    hourEnd = end;
+                    pos = end + 1;
+                    end = scanNumber(text, pos);
+                }
+                if (isLetter(text, end, 'M')) {
+                    minuteStart = pos;
+                    minuteEnd = end;
+                    pos = end + 1;
+                    end = scanNumber(text, pos);
+                }
+                if (end >= 0) {
+                    int unitPos = end;
+                    if (end < length && (text.charAt(end) == '.' || text.charAt(end) == ',')) {
+                        fractionStart = end + 1;
+                        unitPos = fractionStart;
+                        while (unitPos < length && unitPos - fractionStart < 9 && isDigit(text.charAt(unitPos))) {
+                            unitPos++;
+                        }
+                        fractionEnd = unitPos;
                     }
+                    if (isLetter(text, unitPos, 'S')) {
+                        secondStart = pos;
+                        secondEnd = end;
+                        pos = unitPos + 1;
+                    } else {
+                        fractionStart = -1;
+                    }
+                }
+                // check for letter T but no time sections
+                timeFound = upperCaseT == false || hourStart >= 0 || minuteStart >= 0 || secondStart >= 0;
+            }
+            if (pos == length && timeFound && (dayStart >= 0 || hourStart >= 0 || minuteStart >= 0 || secondStart >= 0)) {
+                long daysAsSecs = parseNumber(text, dayStart, dayEnd, SECONDS_PER_DAY, "days");
+                long hoursAsSecs = parseNumber(text, hourStart, hourEnd, SECONDS_PER_HOUR, "hours");
+                long minsAsSecs = parseNumber(text, minuteStart, minuteEnd, SECONDS_PER_MINUTE, "minutes");
+                long seconds = parseNumber(text, secondStart, secondEnd, 1, "seconds");
+                boolean negativeSecs = secondStart >= 0 && text.charAt(secondStart) == '-';
+                int nanos = parseFraction(text, fractionStart, fractionEnd, negativeSecs ? -1 : 1);
+                try {
+                    return create(negate, daysAsSecs, hoursAsSecs, minsAsSecs, seconds, nanos);
+                } catch (ArithmeticException ex) {
+                    throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: overflow", text, 0).initCause(ex);
                 }
             }
         }
         throw new DateTimeParseException("Text cannot be parsed to a Duration", text, 0);
     }
 
-    private static long parseNumber(CharSequence text, String parsed, int multiplier, String errorText) {
-        // regex limits to [-+]?[0-9]+
-        if (parsed == null) {
+    //GWT specific
+    /**
+     * Checks if the text has the specified ASCII letter at the position, ignoring case.
+     *
+     * @param text  the text, not null
+     * @param pos  the position to check, negative if there is no position
+     * @param upperCase  the upper case letter to check for
+     * @return true if the letter is found
+     */
+    private static boolean isLetter(CharSequence text, int pos, char upperCase) {
+        // setting the 0x20 bit converts an ASCII letter to lower case
+        return pos >= 0 && pos < text.length() && (text.charAt(pos) | 0x20) == (upperCase | 0x20);
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    /**
+     * Scans a number matching {@code [-+]?[0-9]+}.
+     *
+     * @param text  the text, not null
+     * @param pos  the position to start at
+     * @return the position after the last digit, -1 if there are no digits
+     */
+    private static int scanNumber(CharSequence text, int pos) {
+        int length = text.length();
+        if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            pos++;
+        }
+        int start = pos;
+        while (pos < length && isDigit(text.charAt(pos))) {
+            pos++;
+        }
+        return pos == start ? -1 : pos;
+    }
+
+    private static long parseNumber(CharSequence text, int start, int end, int multiplier, String errorText) {
+        // the scanner limits to [-+]?[0-9]+
+        if (start < 0) {
             return 0;
         }
+        boolean negative = text.charAt(start) == '-';
+        if (negative || text.charAt(start) == '+') {
+            start++;
+        }
+        if (end - start <= 9) {
+            // cannot overflow, as the multiplier is at most the seconds in a day
+            int val = 0;
+            for (int i = start; i < end; i++) {
+                val = val * 10 + (text.charAt(i) - '0');
+            }
+            return (long) (negative ? -val : val) * multiplier;
+        }
         try {
-            if (parsed.startsWith("+")) {
-                parsed = parsed.substring(1);
+            // accumulate negatively so that Long.MIN_VALUE can be parsed
+            long val = 0;
+            for (int i = start; i < end; i++) {
+                val = Math.subtractExact(Math.multiplyExact(val, 10), text.charAt(i) - '0');
+            }
+            if (negative == false) {
+                val = Math.negateExact(val);
             }
-            long val = Long.parseLong(parsed);
             return Math.multiplyExact(val, multiplier);
-        } catch (NumberFormatException | ArithmeticException ex) {
+        } catch (ArithmeticException ex) {
             throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: " + errorText, text, 0).initCause(ex);
         }
     }
 
-    private static int parseFraction(CharSequence text, String parsed, int negate) {
-        // regex limits to [0-9]{0,9}
-        if (parsed == null || parsed.length() == 0) {
+    private static int parseFraction(CharSequence text, int start, int end, int negate) {
+        // the scanner limits to [0-9]{0,9}
+        if (start < 0 || start == end) {
             return 0;
         }
-        try {
-            parsed = (parsed + "000000000").substring(0, 9);
-            return Integer.parseInt(parsed) * negate;
-        } catch (NumberFormatException ex) {
-            throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: fraction", text, 0).initCause(ex);
-        } catch (ArithmeticException ex) {
-            throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: fraction", text, 0).initCause(ex);
+        int val = 0;
+        for (int i = start; i < start + 9; i++) {
+            val = val * 10 + (i < end ? text.charAt(i) - '0' : 0);
         }
+        return val * negate;
     }
 
     private static Duration create(boolean negate, long daysAsSecs, long hoursAsSecs, long minsAsSecs, long secs, int nanos) {
@@ -886,7 +992,22 @@ public final class Duration
         if (multiplicand == 1) {
             return this;
         }
-        return create(toSeconds().multiply(BigDecimal.valueOf(multiplicand)));
+        //GWT specific
+        if (isSmall(multiplicand)) {
+            double factor = multiplicand;
+            double nanosProduct = nanos * factor;
+            double carry = floorDivExact(nanosProduct, NANOS_PER_SECOND);
+            double nos = nanosProduct - carry * NANOS_PER_SECOND;
+            return create((long) (seconds * factor + carry), (int) nos);
+        }
+        try {
+            long nanosProduct = Math.multiplyExact((long) nanos, multiplicand);
+            long secs = Math.addExact(Math.multiplyExact(seconds, multiplicand), Math.floorDiv(nanosProduct, NANOS_PER_SECOND));
+            return create(secs, (int) Math.floorMod(nanosProduct, NANOS_PER_SECOND));
+        } catch (ArithmeticException ex) {
+            // an intermediate overflowed, the result may still fit
+            return create(toSeconds().multiply(BigDecimal.valueOf(multiplicand)));
+        }
      }
 
     /**
@@ -906,9 +1027,76 @@ public final class Duration
         if (divisor == 1) {
             return this;
         }
-        return create(toSeconds().divide(BigDecimal.valueOf(divisor), RoundingMode.DOWN));
+        //GWT specific
+        // the result is truncated towards zero, calculated by flooring the
+        // seconds and then the remaining nanos, adjusting for the truncation
+        if (divisor == -1) {
+            return multipliedBy(-1);
+        }
+        if (isSmall(divisor)) {
+            double factor = divisor;
+            double secs = floorDivExact(seconds, factor);
+            double remainingNanos = (seconds - secs * factor) * NANOS_PER_SECOND + nanos;
+            double nos = floorDivExact(remainingNanos, factor);
+            if (remainingNanos != nos * factor && (seconds < 0) != (divisor < 0)) {
+                nos++;
+            }
+            if (nos < 0) {
+                secs--;
+                nos += NANOS_PER_SECOND;
+            } else if (nos >= NANOS_PER_SECOND) {
+                secs++;
+                nos -= NANOS_PER_SECOND;
+            }
+            return create((long) secs, (int) nos);
+        }
+        try {
+            long secs = Math.floorDiv(seconds, divisor);
+            long remainingNanos = Math.addExact(Math.multiplyExact(Math.floorMod(seconds, divisor), NANOS_PER_SECOND), nanos);
+            long nos = Math.floorDiv(remainingNanos, divisor);
+            if (Math.floorMod(remainingNanos, divisor) != 0 && (seconds < 0) != (divisor < 0)) {
+                nos++;
+            }
+            return ofSeconds(secs, nos);
+        } catch (ArithmeticException ex) {
+            // the remaining nanos overflowed, only possible for very large divisors
+            return create(toSeconds().divide(BigDecimal.valueOf(divisor), RoundingMode.DOWN));
+        }
      }
 
+    /**
+     * Checks if this duration and the factor are small enough for multiplication
+     * and division to be calculated exactly in {@code double} arithmetic,
+     * avoiding the emulated {@code long} arithmetic of GWT.
+     *
+     * @param factor  the multiplicand or divisor
+     * @return true if the calculation can use {@code double} arithmetic
+     */
+    private boolean isSmall(long factor) {
+        return seconds > -SMALL_SECONDS && seconds < SMALL_SECONDS && factor > -SMALL_FACTOR && factor < SMALL_FACTOR;
+    }
+
+    /**
+     * Performs floor division of two integral values held in a {@code double}.
+     * <p>
+     * The values and the product of the quotient and divisor must be below 2^53.
+     *
+     * @param dividend  the integral dividend
+     * @param divisor  the integral divisor, not zero
+     * @return the floor of the quotient
+     */
+    private static double floorDivExact(double dividend, double divisor) {
+        double quotient = Math.floor(dividend / divisor);
+        double remainder = dividend - quotient * divisor;
+        // correct any rounding in the division
+        if (divisor > 0 ? remainder < 0 : remainder > 0) {
+            quotient--;
+        } else if (divisor > 0 ? remainder >= divisor : remainder <= divisor) {
+            quotient++;
+        }
+        return quotient;
+    }
+
     /**
      * Converts this duration to the total length in seconds and
      * fractional nanoseconds expressed as a {@code BigDecimal}.
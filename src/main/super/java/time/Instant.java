@@ -210,6 +210,14 @@ public final class Instant
      * Constant for millis per sec.
      */
     private static final long MILLIS_PER_SEC = 1000;
+    /**
+     * The largest number of milliseconds, 2^53 - 1, that a {@code double} holds exactly.
+     */
+    private static final double MAX_SAFE_MILLI = 9007199254740991d;
+    /**
+     * The bound on the epoch-second within which the epoch-milli is safe in a {@code double}.
+     */
+    private static final long MAX_SAFE_SECOND = 9007199254740L;
 
     /**
      * The number of seconds from the epoch of 1970-01-01T00:00:00Z.
@@ -305,11 +313,57 @@ public final class Instant
      * @throws DateTimeException if the instant exceeds the maximum or minimum instant
      */
     public static Instant ofEpochMilli(long epochMilli) {
+        //GWT specific
+        if (epochMilli > -MAX_SAFE_MILLI && epochMilli < MAX_SAFE_MILLI) {
+            return ofEpochMilliDouble(epochMilli);
+        }
         long secs = Math.floorDiv(epochMilli, 1000);
         int mos = (int) Math.floorMod(epochMilli, 1000);
         return create(secs, mos * NANOS_PER_MILLI);
     }
 
+    /**
+     * Obtains an instance of {@code Instant} using milliseconds from the
+     * epoch of 1970-01-01T00:00:00Z held in a {@code double}.
+     * <p>
+     * This is intended for values obtained from JavaScript, such as {@code Date.getTime()}.
+     * Whole milliseconds within &plusmn;2<sup>53</sup> are converted exactly, without
+     * {@code long} arithmetic. Any fractional part is rounded to the nearest nanosecond.
+     *
+     * @param epochMilli  the number of milliseconds from 1970-01-01T00:00:00Z
+     * @return an instant, not null
+     * @throws DateTimeException if the value is not finite, or if the instant
+     *  exceeds the maximum or minimum instant
+     */
+    public static Instant ofEpochMilliDouble(double epochMilli) {
+        if (Double.isNaN(epochMilli) || Double.isInfinite(epochMilli)) {
+            throw new DateTimeException("Invalid epoch milli: " + epochMilli);
+        }
+        if (Math.abs(epochMilli) > MAX_SAFE_MILLI) {
+            // every double of this size is a whole number of milliseconds
+            if (epochMilli >= Long.MAX_VALUE || epochMilli < Long.MIN_VALUE) {
+                throw new DateTimeException("Instant exceeds minimum or maximum instant");
+            }
+            return ofEpochMilli((long) epochMilli);
+        }
+        double secs = Math.floor(epochMilli / 1000);
+        double mos = epochMilli - secs * 1000;
+        // correct any rounding in the division
+        if (mos < 0) {
+            secs--;
+            mos += 1000;
+        } else if (mos >= 1000) {
+            secs++;
+            mos -= 1000;
+        }
+        int nos = (int) Math.round(mos * NANOS_PER_MILLI);
+        if (nos == NANOS_PER_SECOND) {
+            secs++;
+            nos = 0;
+        }
+        return create((long) secs, nos);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code Instant} from a temporal object.
@@ -1054,6 +1108,11 @@ public final class Instant
      * @throws ArithmeticException if numeric overflow occurs
      */
     public long toEpochMilli() {
+        //GWT specific
+        if (seconds > -MAX_SAFE_SECOND && seconds < MAX_SAFE_SECOND) {
+            // exact in a double within this range, avoiding emulated long arithmetic
+            return (long) toEpochMilliDouble();
+        }
         if (seconds >= 0) {
             long millis = Math.multiplyExact(seconds, MILLIS_PER_SEC);
             return Math.addExact(millis, nanos / NANOS_PER_MILLI);
@@ -1069,6 +1128,21 @@ public final class Instant
         }
     }
 
+    /**
+     * Converts this instant to the number of milliseconds from the epoch
+     * of 1970-01-01T00:00:00Z as a {@code double}.
+     * <p>
+     * This is intended for passing to JavaScript, such as {@code new Date(millis)}.
+     * Excess precision is dropped exactly as by {@link #toEpochMilli()}.
+     * The result is exact within &plusmn;2<sup>53</sup> milliseconds, and the
+     * nearest {@code double} otherwise, so no exception is thrown.
+     *
+     * @return the number of milliseconds since the epoch of 1970-01-01T00:00:00Z
+     */
+    public double toEpochMilliDouble() {
+        return seconds * 1000d + nanos / NANOS_PER_MILLI;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this instant to the specified instant.
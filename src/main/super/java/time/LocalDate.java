@@ -66,6 +66,11 @@ import java.time.temporal.ValueRange;
 import java.time.zone.ZoneOffsetTransition;
 import java.time.zone.ZoneRules;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A date without a time-zone in the ISO-8601 calendar system,
@@ -118,6 +123,29 @@ public final class LocalDate
      * There are 7 leap years from 1970 to 2000.
      */
     static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+    /**
+     * The days from year zero to 1970 as an {@code int}.
+     */
+    private static final int DAYS_0000_TO_1970_INT = (int) DAYS_0000_TO_1970;
+    /**
+     * The exclusive bound on the absolute year for which the epoch day
+     * can be calculated in {@code int} arithmetic.
+     */
+    private static final int MAX_INT_YEAR = 1_000_000;
+    /**
+     * The exclusive bound on the absolute epoch day for which the date
+     * can be calculated in {@code int} arithmetic, about one million years.
+     */
+    private static final long MAX_INT_EPOCH_DAY = 365_000_000L;
+    /**
+     * The exclusive bound on the absolute epoch day as an {@code int}.
+     */
+    private static final int MAX_INT_EPOCH_DAY_INT = (int) MAX_INT_EPOCH_DAY;
+    /**
+     * The buffer that {@code toString()} of the local date-time classes writes to.
+     * JavaScript is single threaded, so a shared buffer is safe.
+     */
+    static final char[] ISO_BUFFER = new char[40];
 
     /**
      * The year.
@@ -262,6 +290,10 @@ public final class LocalDate
      * @throws DateTimeException if the epoch days exceeds the supported date range
      */
     public static LocalDate ofEpochDay(long epochDay) {
+        //GWT specific
+        if (epochDay > -MAX_INT_EPOCH_DAY && epochDay < MAX_INT_EPOCH_DAY) {
+            return ofEpochDayInt((int) epochDay);
+        }
         EPOCH_DAY.checkValidValue(epochDay);
         long zeroDay = epochDay + DAYS_0000_TO_1970;
         // find the march-based year
@@ -294,6 +326,54 @@ public final class LocalDate
         return new LocalDate(year, month, dom);
     }
 
+    //GWT specific
+    /**
+     * Obtains an instance of {@code LocalDate} from an {@code int} epoch day count.
+     * <p>
+     * This is the same algorithm as {@link #ofEpochDay(long)}, but avoids the
+     * emulated {@code long} arithmetic of GWT for epoch days within about one
+     * million years. The only intermediate value exceeding the {@code int}
+     * range is computed exactly as a {@code double}.
+     * <p>
+     * NOTE: This method does not exist in Java SE 8.
+     *
+     * @param epochDay  the Epoch Day to convert, based on the epoch 1970-01-01
+     * @return the local date, not null
+     * @throws DateTimeException if the epoch day exceeds the supported date range
+     */
+    public static LocalDate ofEpochDayInt(int epochDay) {
+        if (epochDay <= -MAX_INT_EPOCH_DAY_INT || epochDay >= MAX_INT_EPOCH_DAY_INT) {
+            return ofEpochDay(epochDay);
+        }
+        int zeroDay = epochDay + DAYS_0000_TO_1970_INT;
+        // find the march-based year
+        zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
+        int adjust = 0;
+        if (zeroDay < 0) {
+            // adjust negative years to positive for calculation
+            int adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        // the numerator and quotient are exact in a double, so truncation matches long division
+        int yearEst = (int) ((400d * zeroDay + 591) / DAYS_PER_CYCLE);
+        int doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            // fix estimate
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;  // reset any negative year
+        int marchDoy0 = doyEst;
+
+        // convert march-based values back to january-based
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+        return new LocalDate(yearEst, month, dom);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code LocalDate} from a temporal object.
@@ -334,6 +414,12 @@ public final class LocalDate
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static LocalDate parse(CharSequence text) {
+        //GWT specific
+        Objects.requireNonNull(text, "text");
+        LocalDate date = parseIso(text, 0, text.length());
+        if (date != null) {
+            return date;
+        }
         return parse(text, DateTimeFormatter.ISO_LOCAL_DATE);
     }
 
@@ -352,6 +438,73 @@ public final class LocalDate
         return formatter.parse(text, LocalDate::from);
     }
 
+    //GWT specific
+    /**
+     * Parses a date in the fixed {@code yyyy-MM-dd} layout by character offsets.
+     * <p>
+     * This only accepts canonical text that {@link DateTimeFormatter#ISO_LOCAL_DATE}
+     * would parse to the same date, returning null for anything else, such as
+     * an invalid date or an expanded year, so that the caller can fall back to
+     * the formatter and report the same error.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed date, null if the text is not canonical
+     */
+    static LocalDate parseIso(CharSequence text, int start, int end) {
+        if (end - start != 10 || text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-') {
+            return null;
+        }
+        int yearValue = parseDigits(text, start, 4);
+        int monthValue = parseDigits(text, start + 5, 2);
+        int dayValue = parseDigits(text, start + 8, 2);
+        if (yearValue < 0 || monthValue < 1 || monthValue > 12 || dayValue < 1) {
+            return null;
+        }
+        if (dayValue > 28 && dayValue > Month.of(monthValue).length(IsoChronology.INSTANCE.isLeapYear(yearValue))) {
+            return null;
+        }
+        return new LocalDate(yearValue, monthValue, dayValue);
+    }
+
+    /**
+     * Parses a fixed number of decimal digits.
+     *
+     * @param text  the text to parse, not null
+     * @param pos  the index of the first digit
+     * @param count  the number of digits, at most nine
+     * @return the value, or -1 if any character is not a digit
+     */
+    static int parseDigits(CharSequence text, int pos, int count) {
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Writes a non-negative value as a fixed number of decimal digits, zero padded.
+     *
+     * @param buf  the buffer to write to, not null
+     * @param pos  the index to write the first digit at
+     * @param value  the value to write, fitting in the digits
+     * @param count  the number of digits
+     * @return the index after the last digit
+     */
+    static int formatDigits(char[] buf, int pos, int value, int count) {
+        for (int i = pos + count - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + count;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a local date from the year, month and day fields.
@@ -707,6 +860,10 @@ public final class LocalDate
      * @return the day-of-week, not null
      */
     public DayOfWeek getDayOfWeek() {
+        //GWT specific
+        if (year > -MAX_INT_YEAR && year < MAX_INT_YEAR) {
+            return DayOfWeek.of(Math.floorMod(toEpochDayInt() + 3, 7) + 1);
+        }
         int dow0 = (int) Math.floorMod(toEpochDay() + 3, 7);
         return DayOfWeek.of(dow0 + 1);
     }
@@ -1500,6 +1657,205 @@ public final class LocalDate
         return Period.of(Math.toIntExact(years), months, days);
     }
 
+    /**
+     * Returns a sequential ordered stream of dates. The returned stream starts from this date
+     * (inclusive) and goes to {@code endExclusive} (exclusive) by an incremental step of 1 day.
+     * <p>
+     * This method is equivalent to {@code datesUntil(endExclusive, Period.ofDays(1))}.
+     * The dates are produced lazily, stepping the year, month and day directly
+     * without converting each date through the epoch-day.
+     *
+     * @param endExclusive  the end date, exclusive, not null
+     * @return a sequential {@code Stream} for the range of {@code LocalDate} values
+     * @throws IllegalArgumentException if end date is before this date
+     */
+    public Stream<LocalDate> datesUntil(LocalDate endExclusive) {
+        //GWT specific
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        long until = endExclusive.toEpochDay() - toEpochDay();
+        if (until < 0) {
+            throw new IllegalArgumentException(endExclusive + " < " + this);
+        }
+        return StreamSupport.stream(new DaySpliterator(this, 1, until), false);
+    }
+
+    /**
+     * Returns a sequential ordered stream of dates by given incremental step. The returned stream
+     * starts from this date (inclusive) and goes to {@code endExclusive} (exclusive).
+     * <p>
+     * The n-th date which appears in the stream is equal to {@code this.plusMonths(step.toTotalMonths() * (n - 1))
+     * .plusDays(step.getDays() * (n - 1))}. For each date in the stream, it is checked whether
+     * it is still before the end date. The dates are produced lazily and are only
+     * validated when stepping crosses a month or year.
+     *
+     * @param endExclusive  the end date, exclusive, not null
+     * @param step  the non-zero, non-negative {@code Period} which represents the step, not null
+     * @return a sequential {@code Stream} for the range of {@code LocalDate} values
+     * @throws IllegalArgumentException if step is zero, or {@code step.getDays()} and
+     *             {@code step.toTotalMonths()} have opposite sign, or end date is before this date
+     *             and step is positive, or end date is after this date and step is negative
+     */
+    public Stream<LocalDate> datesUntil(LocalDate endExclusive, Period step) {
+        return StreamSupport.stream(datesUntil(endExclusive, false, step), false);
+    }
+
+    /**
+     * Creates the spliterator of dates stepping from this date towards the end date.
+     *
+     * @param end  the end date, not null
+     * @param inclusive  whether the end date itself is included
+     * @param step  the step, not null
+     * @return the spliterator of the dates, not null
+     */
+    Spliterator<LocalDate> datesUntil(LocalDate end, boolean inclusive, Period step) {
+        //GWT specific
+        Objects.requireNonNull(end, "endExclusive");
+        Objects.requireNonNull(step, "step");
+        if (step.isZero()) {
+            throw new IllegalArgumentException("step is zero");
+        }
+        long months = step.toTotalMonths();
+        long days = step.getDays();
+        if ((months < 0 && days > 0) || (months > 0 && days < 0)) {
+            throw new IllegalArgumentException("period months and days are of opposite sign");
+        }
+        long until = end.toEpochDay() - toEpochDay();
+        if (until == 0 && !inclusive) {
+            return Spliterators.emptySpliterator();
+        }
+        int sign = months > 0 || days > 0 ? 1 : -1;
+        if (until != 0 && (sign < 0 ^ until < 0)) {
+            throw new IllegalArgumentException(end + (sign < 0 ? " > " : " < ") + this);
+        }
+        if (months == 0) {
+            return new DaySpliterator(this, days, (inclusive ? until : until - sign) / days + 1);
+        }
+        return new MonthSpliterator(this, months, days, end, inclusive, sign);
+    }
+
+    /**
+     * Spliterator stepping by a whole number of days, with a known count.
+     */
+    private static final class DaySpliterator extends Spliterators.AbstractSpliterator<LocalDate> {
+        /** Steps up to this size cross at most one month end. */
+        private static final int SMALL_STEP = 28;
+        private final long step;
+        private long remaining;
+        private LocalDate next;
+
+        DaySpliterator(LocalDate start, long step, long count) {
+            super(count, Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL
+                    | Spliterator.DISTINCT | Spliterator.SIZED);
+            this.step = step;
+            this.remaining = count;
+            this.next = start;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LocalDate> action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            LocalDate date = next;
+            if (--remaining > 0) {
+                next = step(date);
+            }
+            action.accept(date);
+            return true;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        private LocalDate step(LocalDate date) {
+            if (step > SMALL_STEP || step < -SMALL_STEP) {
+                return ofEpochDay(date.toEpochDay() + step);
+            }
+            int year = date.year;
+            int month = date.month;
+            int day = date.day + (int) step;
+            if (day < 1) {
+                if (--month == 0) {
+                    month = 12;
+                    year--;
+                }
+                day += Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year));
+            } else if (day > 28) {
+                int length = Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year));
+                if (day > length) {
+                    day -= length;
+                    if (++month == 13) {
+                        month = 1;
+                        year++;
+                    }
+                }
+            }
+            return new LocalDate(year, month, day);
+        }
+    }
+
+    /**
+     * Spliterator stepping by months and days, ending at the first date past the end.
+     */
+    private static final class MonthSpliterator extends Spliterators.AbstractSpliterator<LocalDate> {
+        private final long startMonth;
+        private final int startDay;
+        private final long months;
+        private final long days;
+        private final LocalDate end;
+        private final boolean inclusive;
+        private final int sign;
+        private long steps;
+        private LocalDate next;
+
+        MonthSpliterator(LocalDate start, long months, long days, LocalDate end, boolean inclusive, int sign) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL
+                    | Spliterator.DISTINCT);
+            this.startMonth = start.getProlepticMonth();
+            this.startDay = start.day;
+            this.months = months;
+            this.days = days;
+            this.end = end;
+            this.inclusive = inclusive;
+            this.sign = sign;
+            this.next = start;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LocalDate> action) {
+            if (next == null) {
+                return false;
+            }
+            LocalDate date = next;
+            next = step();
+            action.accept(date);
+            return true;
+        }
+
+        private LocalDate step() {
+            steps++;
+            long prolepticMonth = startMonth + months * steps;
+            long year = Math.floorDiv(prolepticMonth, 12);
+            if (year < Year.MIN_VALUE || year > Year.MAX_VALUE) {
+                return null;
+            }
+            int month = (int) Math.floorMod(prolepticMonth, 12) + 1;
+            int day = Math.min(startDay, Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year)));
+            LocalDate date = new LocalDate((int) year, month, day);
+            if (days != 0) {
+                long epochDay = date.toEpochDay() + days * steps;
+                if (EPOCH_DAY.range().isValidValue(epochDay) == false) {
+                    return null;
+                }
+                date = ofEpochDay(epochDay);
+            }
+            int cmp = date.compareTo0(end) * sign;
+            return cmp < 0 || (cmp == 0 && inclusive) ? date : null;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this date with a time to create a {@code LocalDateTime}.
@@ -1639,6 +1995,10 @@ public final class LocalDate
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
+        //GWT specific
+        if (year > -MAX_INT_YEAR && year < MAX_INT_YEAR) {
+            return toEpochDayInt();
+        }
         long y = year;
         long m = month;
         long total = 0;
@@ -1659,6 +2019,73 @@ public final class LocalDate
         return total - DAYS_0000_TO_1970;
     }
 
+    //GWT specific
+    /**
+     * Converts this date to the Epoch Day using {@code int} arithmetic.
+     * <p>
+     * This is the same algorithm as {@link #toEpochDay()}, valid for years
+     * from -999,999 to 999,999, and avoids the emulated {@code long}
+     * arithmetic of GWT.
+     * <p>
+     * NOTE: This method does not exist in Java SE 8.
+     *
+     * @return the Epoch Day equivalent to this date
+     * @throws ArithmeticException if the year is outside -999,999 to 999,999
+     */
+    public int toEpochDayInt() {
+        if (year <= -MAX_INT_YEAR || year >= MAX_INT_YEAR) {
+            throw new ArithmeticException("Epoch day of " + this + " is not calculated as an int");
+        }
+        int y = year;
+        int m = month;
+        int total = 0;
+        total += 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += ((367 * m - 362) / 12);
+        total += day - 1;
+        if (m > 2) {
+            total--;
+            if (isLeapYear() == false) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970_INT;
+    }
+
+    //-----------------------------------------------------------------------
+    //GWT specific
+    /**
+     * Converts this date to a packed key.
+     * <p>
+     * The packed key is a {@code double} that sorts in the same order as the dates.
+     * It is the {@linkplain #toEpochDay() epoch-day}, which a {@code double} holds
+     * exactly for every date, so sorts and range checks can work on primitive numbers.
+     *
+     * @return the packed key of this date
+     */
+    public double toPackedKey() {
+        return toEpochDay();
+    }
+
+    //GWT specific
+    /**
+     * Obtains an instance of {@code LocalDate} from a packed key.
+     *
+     * @param packedKey  the packed key, as returned by {@link #toPackedKey()}
+     * @return the local date, not null
+     * @throws DateTimeException if the packed key is invalid
+     */
+    public static LocalDate ofPackedKey(double packedKey) {
+        if (packedKey != Math.floor(packedKey)) {
+            throw new DateTimeException("Invalid packed key for LocalDate: " + packedKey);
+        }
+        return ofEpochDay((long) packedKey);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this date to another date.
@@ -1833,28 +2260,38 @@ public final class LocalDate
      */
     @Override
     public String toString() {
+        //GWT specific
+        int end = toChars(ISO_BUFFER, 0);
+        return new String(ISO_BUFFER, 0, end);
+    }
+
+    //GWT specific
+    /**
+     * Writes this date in ISO-8601 format, as output by {@link #toString()}.
+     *
+     * @param buf  the buffer to write to, with space for 16 characters, not null
+     * @param pos  the index to start writing at
+     * @return the index after the last character written
+     */
+    int toChars(char[] buf, int pos) {
         int yearValue = year;
-        int monthValue = month;
-        int dayValue = day;
         int absYear = Math.abs(yearValue);
-        StringBuilder buf = new StringBuilder(10);
-        if (absYear < 1000) {
-            if (yearValue < 0) {
-                buf.append(yearValue - 10000).deleteCharAt(1);
-            } else {
-                buf.append(yearValue + 10000).deleteCharAt(0);
-            }
+        if (yearValue < 0) {
+            buf[pos++] = '-';
+        } else if (yearValue > 9999) {
+            buf[pos++] = '+';
+        }
+        if (absYear < 10000) {
+            pos = formatDigits(buf, pos, absYear, 4);
         } else {
-            if (yearValue > 9999) {
-                buf.append('+');
-            }
-            buf.append(yearValue);
+            String digits = Integer.toString(absYear);
+            digits.getChars(0, digits.length(), buf, pos);
+            pos += digits.length();
         }
-        return buf.append(monthValue < 10 ? "-0" : "-")
-            .append(monthValue)
-            .append(dayValue < 10 ? "-0" : "-")
-            .append(dayValue)
-            .toString();
+        buf[pos++] = '-';
+        pos = formatDigits(buf, pos, month, 2);
+        buf[pos++] = '-';
+        return formatDigits(buf, pos, day, 2);
     }
 
     /**
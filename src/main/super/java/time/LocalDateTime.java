@@ -60,6 +60,8 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
 import java.time.zone.ZoneRules;
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A date-time without a time-zone in the ISO-8601 calendar system,
@@ -110,6 +112,14 @@ public final class LocalDateTime
      * Serialization version.
      */
     private static final long serialVersionUID = 6207766400415563566L;
+    /**
+     * The largest absolute epoch-day that can be held in a packed key.
+     */
+    private static final long MAX_PACKED_EPOCH_DAY = 104_249_990L;
+    /**
+     * The largest absolute packed key, 2^53 - 1.
+     */
+    private static final double MAX_PACKED_KEY = 9007199254740991d;
 
     /**
      * The date part.
@@ -338,7 +348,7 @@ public final class LocalDateTime
         Objects.requireNonNull(instant, "instant");
         Objects.requireNonNull(zone, "zone");
         ZoneRules rules = zone.getRules();
-        ZoneOffset offset = rules.getOffset(instant);
+        ZoneOffset offset = rules.getOffsetAtEpochSecond(instant.getEpochSecond());
         return ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
     }
 
@@ -410,6 +420,16 @@ public final class LocalDateTime
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static LocalDateTime parse(CharSequence text) {
+        //GWT specific
+        Objects.requireNonNull(text, "text");
+        int length = text.length();
+        if (length > 10 && text.charAt(10) == 'T') {
+            LocalDate date = LocalDate.parseIso(text, 0, 10);
+            LocalTime time = LocalTime.parseIso(text, 11, length);
+            if (date != null && time != null) {
+                return new LocalDateTime(date, time);
+            }
+        }
         return parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
     }
 
@@ -1566,6 +1586,48 @@ public final class LocalDateTime
         return unit.between(this, end);
     }
 
+    /**
+     * Returns a sequential ordered stream of date-times at the time of this date-time.
+     * The returned stream starts from this date-time (inclusive) and goes to
+     * {@code endExclusive} (exclusive) by an incremental step of 1 day.
+     *
+     * @param endExclusive  the end date-time, exclusive, not null
+     * @return a sequential {@code Stream} for the range of {@code LocalDateTime} values
+     * @throws IllegalArgumentException if end date-time is before this date-time
+     */
+    public Stream<LocalDateTime> dateTimesUntil(LocalDateTime endExclusive) {
+        return dateTimesUntil(endExclusive, Period.ofDays(1));
+    }
+
+    /**
+     * Returns a sequential ordered stream of date-times by given incremental step.
+     * The returned stream starts from this date-time (inclusive) and goes to
+     * {@code endExclusive} (exclusive).
+     * <p>
+     * Every date-time in the stream has the time of this date-time. The dates are
+     * stepped as by {@link LocalDate#datesUntil(LocalDate, Period)}.
+     *
+     * @param endExclusive  the end date-time, exclusive, not null
+     * @param step  the non-zero {@code Period} which represents the step, not null
+     * @return a sequential {@code Stream} for the range of {@code LocalDateTime} values
+     * @throws IllegalArgumentException if step is zero, or {@code step.getDays()} and
+     *             {@code step.toTotalMonths()} have opposite sign, or end date-time is before
+     *             this date-time and step is positive, or end date-time is after this date-time
+     *             and step is negative
+     */
+    public Stream<LocalDateTime> dateTimesUntil(LocalDateTime endExclusive, Period step) {
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        Objects.requireNonNull(step, "step");
+        int sign = step.isNegative() ? -1 : 1;
+        if (step.isZero() == false && compareTo0(endExclusive) * sign > 0) {
+            throw new IllegalArgumentException(endExclusive + (sign < 0 ? " > " : " < ") + this);
+        }
+        // the end date is included when this time comes before the end time
+        boolean inclusive = time.compareTo(endExclusive.time) * sign < 0;
+        return StreamSupport.stream(date.datesUntil(endExclusive.date, inclusive, step), false)
+                .map(day -> new LocalDateTime(day, time));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this date-time with an offset to create an {@code OffsetDateTime}.
@@ -1641,6 +1703,63 @@ public final class LocalDateTime
         return time;
     }
 
+    //-----------------------------------------------------------------------
+    //GWT specific
+    /**
+     * Converts this date-time to a packed key.
+     * <p>
+     * The packed key is a {@code double} that sorts in the same order as the date-times,
+     * so sorts and range checks can work on primitive numbers. It is the number of
+     * milliseconds from 1970-01-01T00:00, held exactly within &plusmn;2<sup>53</sup>,
+     * which covers about 285,000 years either side of 1970.
+     * <p>
+     * Fractions of the time smaller than milliseconds are dropped, so date-times
+     * within the same millisecond have the same key, and sorting by the key alone
+     * is only millisecond-stable. To follow {@link #compareTo} exactly and to
+     * recreate the date-time, keep the nano-of-millisecond alongside the key.
+     *
+     * @return the packed key of this date-time
+     * @throws DateTimeException if the date-time is outside the range of a packed key
+     */
+    public double toPackedKey() {
+        long epochDay = date.toEpochDay();
+        if (epochDay < -MAX_PACKED_EPOCH_DAY || epochDay > MAX_PACKED_EPOCH_DAY) {
+            throw new DateTimeException("LocalDateTime is outside the range of a packed key: " + this);
+        }
+        int milliOfDay = time.toSecondOfDay() * 1000 + time.getNano() / 1000_000;
+        return epochDay * (double) LocalTime.MILLIS_PER_DAY + milliOfDay;
+    }
+
+    //GWT specific
+    /**
+     * Obtains an instance of {@code LocalDateTime} from a packed key.
+     *
+     * @param packedKey  the packed key, as returned by {@link #toPackedKey()}
+     * @return the local date-time, not null
+     * @throws DateTimeException if the packed key is invalid
+     */
+    public static LocalDateTime ofPackedKey(double packedKey) {
+        if (!(Math.abs(packedKey) <= MAX_PACKED_KEY) || packedKey != Math.floor(packedKey)) {
+            throw new DateTimeException("Invalid packed key for LocalDateTime: " + packedKey);
+        }
+        double epochDay = Math.floor(packedKey / LocalTime.MILLIS_PER_DAY);
+        double milliOfDay = packedKey - epochDay * LocalTime.MILLIS_PER_DAY;
+        // correct any rounding in the division
+        if (milliOfDay < 0) {
+            epochDay--;
+            milliOfDay += LocalTime.MILLIS_PER_DAY;
+        } else if (milliOfDay >= LocalTime.MILLIS_PER_DAY) {
+            epochDay++;
+            milliOfDay -= LocalTime.MILLIS_PER_DAY;
+        }
+        int millis = (int) milliOfDay;
+        int secondOfDay = millis / 1000;
+        LocalTime time = LocalTime.of(secondOfDay / LocalTime.SECONDS_PER_HOUR,
+                (secondOfDay / LocalTime.SECONDS_PER_MINUTE) % LocalTime.MINUTES_PER_HOUR,
+                secondOfDay % LocalTime.SECONDS_PER_MINUTE, (millis % 1000) * 1000_000);
+        return new LocalDateTime(LocalDate.ofEpochDay((long) epochDay), time);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this date-time to another date-time.
@@ -1816,7 +1935,12 @@ public final class LocalDateTime
      */
     @Override
     public String toString() {
-        return date.toString() + 'T' + time.toString();
+        //GWT specific
+        char[] buf = LocalDate.ISO_BUFFER;
+        int pos = date.toChars(buf, 0);
+        buf[pos++] = 'T';
+        pos = time.toChars(buf, pos);
+        return new String(buf, 0, pos);
     }
 
     /**
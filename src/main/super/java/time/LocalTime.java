@@ -403,6 +403,12 @@ public final class LocalTime
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static LocalTime parse(CharSequence text) {
+        //GWT specific
+        Objects.requireNonNull(text, "text");
+        LocalTime time = parseIso(text, 0, text.length());
+        if (time != null) {
+            return time;
+        }
         return parse(text, DateTimeFormatter.ISO_LOCAL_TIME);
     }
 
@@ -421,6 +427,51 @@ public final class LocalTime
         return formatter.parse(text, LocalTime::from);
     }
 
+    //GWT specific
+    /**
+     * Parses a time in the fixed {@code HH:mm[:ss[.SSSSSSSSS]]} layout by character offsets.
+     * <p>
+     * This only accepts canonical text that {@link DateTimeFormatter#ISO_LOCAL_TIME}
+     * would parse to the same time, returning null for anything else, such as
+     * hour 24 or a leap second, so that the caller can fall back to the formatter.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed time, null if the text is not canonical
+     */
+    static LocalTime parseIso(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length < 5 || length == 6 || length == 7 || length == 9 || length > 18 || text.charAt(start + 2) != ':') {
+            return null;
+        }
+        int hourValue = LocalDate.parseDigits(text, start, 2);
+        int minuteValue = LocalDate.parseDigits(text, start + 3, 2);
+        int secondValue = 0;
+        int nanoValue = 0;
+        if (length > 5) {
+            if (text.charAt(start + 5) != ':') {
+                return null;
+            }
+            secondValue = LocalDate.parseDigits(text, start + 6, 2);
+            if (length > 8) {
+                if (text.charAt(start + 8) != '.') {
+                    return null;
+                }
+                int fractionLength = length - 9;
+                nanoValue = LocalDate.parseDigits(text, start + 9, fractionLength);
+                for (int i = fractionLength; i < 9 && nanoValue > 0; i++) {
+                    nanoValue *= 10;
+                }
+            }
+        }
+        if (hourValue < 0 || hourValue > 23 || minuteValue < 0 || minuteValue > 59
+                || secondValue < 0 || secondValue > 59 || nanoValue < 0) {
+            return null;
+        }
+        return create(hourValue, minuteValue, secondValue, nanoValue);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a local time from the hour, minute, second and nanosecond fields.
@@ -1364,6 +1415,42 @@ public final class LocalTime
         return total;
     }
 
+    //-----------------------------------------------------------------------
+    //GWT specific
+    /**
+     * Converts this time to a packed key.
+     * <p>
+     * The packed key is a {@code double} that sorts in the same order as the times.
+     * It is the {@linkplain #toNanoOfDay() nano-of-day}, which a {@code double} holds
+     * exactly, so sorts and range checks can work on primitive numbers.
+     *
+     * @return the packed key of this time
+     */
+    public double toPackedKey() {
+        return hour * (double) NANOS_PER_HOUR + minute * (double) NANOS_PER_MINUTE
+                + second * (double) NANOS_PER_SECOND + nano;
+    }
+
+    //GWT specific
+    /**
+     * Obtains an instance of {@code LocalTime} from a packed key.
+     *
+     * @param packedKey  the packed key, as returned by {@link #toPackedKey()}
+     * @return the local time, not null
+     * @throws DateTimeException if the packed key is invalid
+     */
+    public static LocalTime ofPackedKey(double packedKey) {
+        if (!(packedKey >= 0 && packedKey < NANOS_PER_DAY) || packedKey != Math.floor(packedKey)) {
+            throw new DateTimeException("Invalid packed key for LocalTime: " + packedKey);
+        }
+        // the key is well below 2^52, so the division is exact after flooring
+        int secondOfDay = (int) Math.floor(packedKey / NANOS_PER_SECOND);
+        int nanoOfSecond = (int) (packedKey - secondOfDay * (double) NANOS_PER_SECOND);
+        int hours = secondOfDay / SECONDS_PER_HOUR;
+        int minutes = (secondOfDay / SECONDS_PER_MINUTE) % MINUTES_PER_HOUR;
+        return create(hours, minutes, secondOfDay % SECONDS_PER_MINUTE, nanoOfSecond);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this {@code LocalTime} to another time.
@@ -1474,27 +1561,40 @@ public final class LocalTime
      */
     @Override
     public String toString() {
-        StringBuilder buf = new StringBuilder(18);
-        int hourValue = hour;
-        int minuteValue = minute;
+        //GWT specific
+        int end = toChars(LocalDate.ISO_BUFFER, 0);
+        return new String(LocalDate.ISO_BUFFER, 0, end);
+    }
+
+    //GWT specific
+    /**
+     * Writes this time in ISO-8601 format, as output by {@link #toString()}.
+     *
+     * @param buf  the buffer to write to, with space for 18 characters, not null
+     * @param pos  the index to start writing at
+     * @return the index after the last character written
+     */
+    int toChars(char[] buf, int pos) {
         int secondValue = second;
         int nanoValue = nano;
-        buf.append(hourValue < 10 ? "0" : "").append(hourValue)
-            .append(minuteValue < 10 ? ":0" : ":").append(minuteValue);
+        pos = LocalDate.formatDigits(buf, pos, hour, 2);
+        buf[pos++] = ':';
+        pos = LocalDate.formatDigits(buf, pos, minute, 2);
         if (secondValue > 0 || nanoValue > 0) {
-            buf.append(secondValue < 10 ? ":0" : ":").append(secondValue);
+            buf[pos++] = ':';
+            pos = LocalDate.formatDigits(buf, pos, secondValue, 2);
             if (nanoValue > 0) {
-                buf.append('.');
+                buf[pos++] = '.';
                 if (nanoValue % 1000_000 == 0) {
-                    buf.append(Integer.toString((nanoValue / 1000_000) + 1000).substring(1));
+                    pos = LocalDate.formatDigits(buf, pos, nanoValue / 1000_000, 3);
                 } else if (nanoValue % 1000 == 0) {
-                    buf.append(Integer.toString((nanoValue / 1000) + 1000_000).substring(1));
+                    pos = LocalDate.formatDigits(buf, pos, nanoValue / 1000, 6);
                 } else {
-                    buf.append(Integer.toString((nanoValue) + 1000_000_000).substring(1));
+                    pos = LocalDate.formatDigits(buf, pos, nanoValue, 9);
                 }
             }
         }
-        return buf.toString();
+        return pos;
     }
 
     /**
@@ -273,7 +273,7 @@ public final class OffsetDateTime
         Objects.requireNonNull(instant, "instant");
         Objects.requireNonNull(zone, "zone");
         ZoneRules rules = zone.getRules();
-        ZoneOffset offset = rules.getOffset(instant);
+        ZoneOffset offset = rules.getOffsetAtEpochSecond(instant.getEpochSecond());
         LocalDateTime ldt = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
         return new OffsetDateTime(ldt, offset);
     }
@@ -53,9 +53,6 @@ import java.util.Objects;
 //import java.util.regex.Matcher;
 //import java.util.regex.Pattern;
 
-import com.google.gwt.regexp.shared.MatchResult;
-import com.google.gwt.regexp.shared.RegExp;
-
 /**
  * A date-based amount of time, such as '2 years, 3 months and 4 days'.
  * <p>
@@ -101,12 +98,6 @@ public final class Period
      * Serialization version.
      */
     private static final long serialVersionUID = -8290556941213247973L;
-    /**
-     * The pattern for parsing.
-     */
-
-    private final static RegExp PATTERN =
-    		RegExp.compile("([-+]?)P(?:([-+]?[0-9]+)Y)?(?:([-+]?[0-9]+)M)?(?:([-+]?[0-9]+)W)?(?:([-+]?[0-9]+)D)?", "i");
 
     /**
      * The number of years.
@@ -305,35 +296,113 @@ public final class Period
      */
     public static Period parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        MatchResult result = PATTERN.exec(text.toString());
-        if (result != null) {
-            int negate = ("-".equals(result.getGroup(1)) ? -1 : 1);
-            String yearMatch = result.getGroup(2);
-            String monthMatch = result.getGroup(3);
-            String weekMatch = result.getGroup(4);
-            String dayMatch = result.getGroup(5);
-            if (yearMatch != null || monthMatch != null || weekMatch != null || dayMatch != null) {
-                try {
-                    int years = parseNumber(text, yearMatch, negate);
-                    int months = parseNumber(text, monthMatch, negate);
-                    int weeks = parseNumber(text, weekMatch, negate);
-                    int days = parseNumber(text, dayMatch, negate);
-                    days = Math.addExact(days, Math.multiplyExact(weeks, 7));
-                    return create(years, months, days);
-                } catch (NumberFormatException ex) {
-                    throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Period", text, 0).initCause(ex);
-                }
+        //GWT specific
+        // a single pass scanner, equivalent to matching the whole text against
+        // ([-+]?)P(?:([-+]?[0-9]+)Y)?(?:([-+]?[0-9]+)M)?(?:([-+]?[0-9]+)W)?(?:([-+]?[0-9]+)D)?
+        int length = text.length();
+        int pos = 0;
+        int negate = 1;
+        if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negate = (text.charAt(pos) == '-' ? -1 : 1);
+            pos++;
+        }
+        if (isLetter(text, pos, 'P')) {
+            pos++;
+            int yearStart = -1;
+            int yearEnd = -1;
+            int monthStart = -1;
+            int monthEnd = -1;
+            int weekStart = -1;
+            int weekEnd = -1;
+            int dayStart = -1;
+            int dayEnd = -1;
+            int end = scanNumber(text, pos);
+            if (isLetter(text, end, 'Y')) {
+                yearStart = pos;
+                yearEnd = end;
+                pos = end + 1;
+                end = scanNumber(text, pos);
+            }
+            if (isLetter(text, end, 'M')) {
+                monthStart = pos;
+                monthEnd = end;
+                pos = end + 1;
+                end = scanNumber(text, pos);
+            }
+            if (isLetter(text, end, 'W')) {
+                weekStart = pos;
+                weekEnd = end;
+                pos = end + 1;
+                end = scanNumber(text, pos);
+            }
+            if (isLetter(text, end, 'D')) {
+                dayStart = pos;
+                dayEnd = end;
+                pos = end + 1;
+            }
+            if (pos == length && (yearStart >= 0 || monthStart >= 0 || weekStart >= 0 || dayStart >= 0)) {
+                int years = parseNumber(text, yearStart, yearEnd, negate);
+                int months = parseNumber(text, monthStart, monthEnd, negate);
+                int weeks = parseNumber(text, weekStart, weekEnd, negate);
+                int days = parseNumber(text, dayStart, dayEnd, negate);
+                days = Math.addExact(days, Math.multiplyExact(weeks, 7));
+                return create(years, months, days);
             }
         }
         throw new DateTimeParseException("Text cannot be parsed to a Period", text, 0);
     }
 
-    private static int parseNumber(CharSequence text, String str, int negate) {
-        if (str == null) {
+    //GWT specific
+    /**
+     * Checks if the text has the specified ASCII letter at the position, ignoring case.
+     *
+     * @param text  the text, not null
+     * @param pos  the position to check, negative if there is no position
+     * @param upperCase  the upper case letter to check for
+     * @return true if the letter is found
+     */
+    private static boolean isLetter(CharSequence text, int pos, char upperCase) {
+        // setting the 0x20 bit converts an ASCII letter to lower case
+        return pos >= 0 && pos < text.length() && (text.charAt(pos) | 0x20) == (upperCase | 0x20);
+    }
+
+    /**
+     * Scans a number matching {@code [-+]?[0-9]+}.
+     *
+     * @param text  the text, not null
+     * @param pos  the position to start at
+     * @return the position after the last digit, -1 if there are no digits
+     */
+    private static int scanNumber(CharSequence text, int pos) {
+        int length = text.length();
+        if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            pos++;
+        }
+        int start = pos;
+        while (pos < length && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos == start ? -1 : pos;
+    }
+
+    private static int parseNumber(CharSequence text, int start, int end, int negate) {
+        // the scanner limits to [-+]?[0-9]+
+        if (start < 0) {
             return 0;
         }
-        int val = Integer.parseInt(str);
+        boolean negative = text.charAt(start) == '-';
+        if (negative || text.charAt(start) == '+') {
+            start++;
+        }
         try {
+            // accumulate negatively so that Integer.MIN_VALUE can be parsed
+            int val = 0;
+            for (int i = start; i < end; i++) {
+                val = Math.subtractExact(Math.multiplyExact(val, 10), text.charAt(i) - '0');
+            }
+            if (negative == false) {
+                val = Math.negateExact(val);
+            }
             return Math.multiplyExact(val, negate);
         } catch (ArithmeticException ex) {
             throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Period", text, 0).initCause(ex);
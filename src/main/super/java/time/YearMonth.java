@@ -63,6 +63,11 @@ import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A year-month in the ISO-8601 calendar system, such as {@code 2007-12}.
@@ -918,6 +923,95 @@ public final class YearMonth
         return unit.between(this, end);
     }
 
+    /**
+     * Returns a sequential ordered stream of year-months. The returned stream starts from
+     * this year-month (inclusive) and goes to {@code endExclusive} (exclusive) by an
+     * incremental step of 1 month.
+     *
+     * @param endExclusive  the end year-month, exclusive, not null
+     * @return a sequential {@code Stream} for the range of {@code YearMonth} values
+     * @throws IllegalArgumentException if end year-month is before this year-month
+     */
+    public Stream<YearMonth> monthsUntil(YearMonth endExclusive) {
+        return monthsUntil(endExclusive, 1);
+    }
+
+    /**
+     * Returns a sequential ordered stream of year-months by given incremental step.
+     * The returned stream starts from this year-month (inclusive) and goes to
+     * {@code endExclusive} (exclusive).
+     * <p>
+     * The n-th year-month which appears in the stream is equal to
+     * {@code this.plusMonths(step.toTotalMonths() * (n - 1))}.
+     * The year-months are produced lazily, stepping the year and month directly.
+     *
+     * @param endExclusive  the end year-month, exclusive, not null
+     * @param step  the non-zero {@code Period} of years and months which represents the step, not null
+     * @return a sequential {@code Stream} for the range of {@code YearMonth} values
+     * @throws IllegalArgumentException if step is zero or has days, or end year-month is
+     *             before this year-month and step is positive, or end year-month is after
+     *             this year-month and step is negative
+     */
+    public Stream<YearMonth> monthsUntil(YearMonth endExclusive, Period step) {
+        Objects.requireNonNull(step, "step");
+        if (step.getDays() != 0) {
+            throw new IllegalArgumentException("step must not have days: " + step);
+        }
+        return monthsUntil(endExclusive, step.toTotalMonths());
+    }
+
+    private Stream<YearMonth> monthsUntil(YearMonth endExclusive, long step) {
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        if (step == 0) {
+            throw new IllegalArgumentException("step is zero");
+        }
+        long until = endExclusive.getProlepticMonth() - getProlepticMonth();
+        if (until == 0) {
+            return Stream.empty();
+        }
+        int sign = step > 0 ? 1 : -1;
+        if (sign < 0 ^ until < 0) {
+            throw new IllegalArgumentException(endExclusive + (sign < 0 ? " > " : " < ") + this);
+        }
+        long count = (until - sign) / step + 1;
+        // the years of the step fit in an int whenever a second year-month follows
+        int stepYears = (int) (step / 12);
+        int stepMonths = (int) (step % 12);
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<YearMonth>(count,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL
+                | Spliterator.DISTINCT | Spliterator.SIZED) {
+            private long remaining = count;
+            private int year = YearMonth.this.year;
+            private int month = YearMonth.this.month;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super YearMonth> action) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                YearMonth yearMonth = new YearMonth(year, month);
+                if (--remaining > 0) {
+                    year += stepYears;
+                    month += stepMonths;
+                    if (month > 12) {
+                        month -= 12;
+                        year++;
+                    } else if (month < 1) {
+                        month += 12;
+                        year--;
+                    }
+                }
+                action.accept(yearMonth);
+                return true;
+            }
+
+            @Override
+            public long estimateSize() {
+                return remaining;
+            }
+        }, false);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this year-month with a day-of-month to create a {@code LocalDate}.
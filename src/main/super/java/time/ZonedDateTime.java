@@ -54,7 +54,6 @@ import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
 import java.time.zone.ZoneOffsetTransition;
 import java.time.zone.ZoneRules;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -322,19 +321,21 @@ public final class ZonedDateTime
             return new ZonedDateTime(localDateTime, (ZoneOffset) zone, zone);
         }
         ZoneRules rules = zone.getRules();
-        List<ZoneOffset> validOffsets = rules.getValidOffsets(localDateTime);
+        //GWT specific: a single lookup that creates nothing in the normal case
+        Object info = rules.getOffsetInfo(localDateTime);
         ZoneOffset offset;
-        if (validOffsets.size() == 1) {
-            offset = validOffsets.get(0);
-        } else if (validOffsets.size() == 0) {
-            ZoneOffsetTransition trans = rules.getTransition(localDateTime);
-            localDateTime = localDateTime.plusSeconds(trans.getDuration().getSeconds());
-            offset = trans.getOffsetAfter();
+        if (info instanceof ZoneOffset) {
+            offset = (ZoneOffset) info;
         } else {
-            if (preferredOffset != null && validOffsets.contains(preferredOffset)) {
+            ZoneOffsetTransition trans = (ZoneOffsetTransition) Objects.requireNonNull(info, "offset");  // protect against bad ZoneRules
+            if (trans.isGap()) {
+                localDateTime = localDateTime.plusSeconds(
+                        trans.getOffsetAfter().getTotalSeconds() - trans.getOffsetBefore().getTotalSeconds());
+                offset = trans.getOffsetAfter();
+            } else if (preferredOffset != null && trans.isValidOffset(preferredOffset)) {
                 offset = preferredOffset;
             } else {
-                offset = Objects.requireNonNull(validOffsets.get(0), "offset");  // protect against bad ZoneRules
+                offset = trans.getOffsetBefore();
             }
         }
         return new ZonedDateTime(localDateTime, offset, zone);
@@ -400,8 +401,7 @@ public final class ZonedDateTime
      */
     private static ZonedDateTime create(long epochSecond, int nanoOfSecond, ZoneId zone) {
         ZoneRules rules = zone.getRules();
-        Instant instant = Instant.ofEpochSecond(epochSecond, nanoOfSecond);  // TODO: rules should be queryable by epochSeconds
-        ZoneOffset offset = rules.getOffset(instant);
+        ZoneOffset offset = rules.getOffsetAtEpochSecond(epochSecond);
         LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, offset);
         return new ZonedDateTime(ldt, offset, zone);
     }
@@ -45,7 +45,6 @@ import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
 import java.time.zone.ZoneOffsetTransition;
 import java.time.zone.ZoneRules;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -103,19 +102,21 @@ final class ChronoZonedDateTimeImpl<D extends ChronoLocalDate>
         }
         ZoneRules rules = zone.getRules();
         LocalDateTime isoLDT = LocalDateTime.from(localDateTime);
-        List<ZoneOffset> validOffsets = rules.getValidOffsets(isoLDT);
+        //GWT specific: a single lookup that creates nothing in the normal case
+        Object info = rules.getOffsetInfo(isoLDT);
         ZoneOffset offset;
-        if (validOffsets.size() == 1) {
-            offset = validOffsets.get(0);
-        } else if (validOffsets.size() == 0) {
-            ZoneOffsetTransition trans = rules.getTransition(isoLDT);
-            localDateTime = localDateTime.plusSeconds(trans.getDuration().getSeconds());
-            offset = trans.getOffsetAfter();
+        if (info instanceof ZoneOffset) {
+            offset = (ZoneOffset) info;
         } else {
-            if (preferredOffset != null && validOffsets.contains(preferredOffset)) {
+            ZoneOffsetTransition trans = (ZoneOffsetTransition) info;
+            if (trans.isGap()) {
+                localDateTime = localDateTime.plusSeconds(
+                        trans.getOffsetAfter().getTotalSeconds() - trans.getOffsetBefore().getTotalSeconds());
+                offset = trans.getOffsetAfter();
+            } else if (preferredOffset != null && trans.isValidOffset(preferredOffset)) {
                 offset = preferredOffset;
             } else {
-                offset = validOffsets.get(0);
+                offset = trans.getOffsetBefore();
             }
         }
         Objects.requireNonNull(offset, "offset");  // protect against bad ZoneRules
@@ -131,24 +132,39 @@ final class ChronoZonedDateTimeImpl<D extends ChronoLocalDate>
      * @return the zoned date-time, not null
      */
     static <R extends ChronoLocalDate> ChronoZonedDateTimeImpl<R> ofInstant(Chronology chrono, Instant instant, ZoneId zone) {
+        return ofEpochSecond(chrono, instant.getEpochSecond(), instant.getNano(), zone);
+    }
+
+    /**
+     * Obtains an instance from an epoch-second using the specified time-zone.
+     *
+     * @param chrono  the chronology, not null
+     * @param epochSecond  the number of seconds from the epoch of 1970-01-01T00:00:00Z
+     * @param nanoOfSecond  the nanosecond within the second, from 0 to 999,999,999
+     * @param zone  the zone identifier, not null
+     * @return the zoned date-time, not null
+     */
+    private static <R extends ChronoLocalDate> ChronoZonedDateTimeImpl<R> ofEpochSecond(Chronology chrono, long epochSecond,
+            int nanoOfSecond, ZoneId zone) {
         ZoneRules rules = zone.getRules();
-        ZoneOffset offset = rules.getOffset(instant);
+        ZoneOffset offset = rules.getOffsetAtEpochSecond(epochSecond);
         Objects.requireNonNull(offset, "offset");  // protect against bad ZoneRules
-        LocalDateTime ldt = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
+        LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, offset);
         @SuppressWarnings("unchecked")
         ChronoLocalDateTimeImpl<R> cldt = (ChronoLocalDateTimeImpl<R>) chrono.localDateTime(ldt);
         return new ChronoZonedDateTimeImpl<R>(cldt, offset, zone);
     }
 
     /**
-     * Obtains an instance from an {@code Instant}.
+     * Obtains an instance from the instant of the local date-time at an offset.
      *
-     * @param instant  the instant to create the date-time from, not null
+     * @param offset  the offset of the local date-time, validated not null
      * @param zone  the time-zone to use, validated not null
      * @return the zoned date-time, validated not null
      */
-    private ChronoZonedDateTimeImpl<D> create(Instant instant, ZoneId zone) {
-        return ofInstant(toLocalDate().getChronology(), instant, zone);
+    private ChronoZonedDateTimeImpl<D> create(ZoneOffset offset, ZoneId zone) {
+        return ofEpochSecond(toLocalDate().getChronology(), dateTime.toEpochSecond(offset),
+                dateTime.toLocalTime().getNano(), zone);
     }
 
     //-----------------------------------------------------------------------
@@ -212,7 +228,7 @@ final class ChronoZonedDateTimeImpl<D extends ChronoLocalDate>
     @Override
     public ChronoZonedDateTime<D> withZoneSameInstant(ZoneId zone) {
         Objects.requireNonNull(zone, "zone");
-        return this.zone.equals(zone) ? this : create(dateTime.toInstant(offset), zone);
+        return this.zone.equals(zone) ? this : create(offset, zone);
     }
 
     //-----------------------------------------------------------------------
@@ -230,7 +246,7 @@ final class ChronoZonedDateTimeImpl<D extends ChronoLocalDate>
                 case INSTANT_SECONDS: return plus(newValue - toEpochSecond(), SECONDS);
                 case OFFSET_SECONDS: {
                     ZoneOffset offset = ZoneOffset.ofTotalSeconds(f.checkValidIntValue(newValue));
-                    return create(dateTime.toInstant(offset), zone);
+                    return create(offset, zone);
                 }
             }
             return ofBest(dateTime.with(field, newValue), zone, offset);
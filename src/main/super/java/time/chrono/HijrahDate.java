@@ -52,9 +52,10 @@ import java.time.temporal.TemporalQuery;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
-import java.util.HashMap;
 import java.util.Objects;
 
+import org.jresearch.threetenbp.gwt.client.Support;
+
 /**
  * A date in the Hijrah calendar system.
  * <p>
@@ -77,17 +78,11 @@ import java.util.Objects;
  *     1429/0-1429/1:1
  *     1429/2-1429/7:1;1429/6-1429/11:1
  *     1429/11-9999/11:1</pre>
- * The default location of the configuration file is:
- * <pre>
- *   $CLASSPATH/org/threeten/bp/chrono</pre>
- * And the default file name is:
- * <pre>
- *   hijrah_deviation.cfg</pre>
- * The default location and file name can be overriden by setting
- * following two Java's system property.
+ * The default configuration is the resource:
  * <pre>
- *   Location: org.threeten.bp.i18n.HijrahDate.deviationConfigDir
- *   File name: org.threeten.bp.i18n.HijrahDate.deviationConfigFile</pre>
+ *   org/jresearch/threetenbp/gwt/client/loader/hijrah_deviation.cfg</pre>
+ * It is read the first time a Hijrah date is computed. The default configuration
+ * can be replaced by calling {@link Support#setHijrahDeviation(String)} before that.
  *
  * <h3>Specification for implementors</h3>
  * This class is immutable and thread-safe.
@@ -235,139 +230,63 @@ public final class HijrahDate
         10277
         };
 
-//GWT specific
-//    /**
-//     * File separator.
-//     */
-//    private static final char FILE_SEP = File.separatorChar;
-  //GWT specific
-//    /**
-//     * Path separator.
-//     */
-//    private static final String PATH_SEP = File.pathSeparator;
-  //GWT specific
-//    /**
-//     * Default config file name.
-//     */
-//    private static final String DEFAULT_CONFIG_FILENAME = "hijrah_deviation.cfg";
-//GWT specific
-//    /**
-//     * Default path to the config file.
-//     */
-//    private static final String DEFAULT_CONFIG_PATH = "org" + FILE_SEP + "threeten" + FILE_SEP + "bp" + FILE_SEP + "chrono";
-    /**
-     * Holding the adjusted month days in year. The key is a year (Integer) and
-     * the value is the all the month days in year (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_DAYS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted month length in year. The key is a year (Integer)
-     * and the value is the all the month length in year (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_LENGTHS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted days in the 30 year cycle. The key is a cycle number
-     * (Integer) and the value is the all the starting days of the year in the
-     * cycle (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_CYCLE_YEARS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted cycle in the 1 - 30000 year. The key is the cycle
-     * number (Integer) and the value is the starting days in the cycle in the
-     * term.
-     */
-    private static final Long[] ADJUSTED_CYCLES;
-    /**
-     * Holding the adjusted min values.
-     */
-    private static final Integer[] ADJUSTED_MIN_VALUES;
-    /**
-     * Holding the adjusted max least max values.
-     */
-    private static final Integer[] ADJUSTED_LEAST_MAX_VALUES;
-    /**
-     * Holding adjusted max values.
-     */
-    private static final Integer[] ADJUSTED_MAX_VALUES;
-    /**
-     * Holding the non-adjusted month days in year for non leap year.
-     */
-    private static final Integer[] DEFAULT_MONTH_DAYS;
-    /**
-     * Holding the non-adjusted month days in year for leap year.
-     */
-    private static final Integer[] DEFAULT_LEAP_MONTH_DAYS;
-    /**
-     * Holding the non-adjusted month length for non leap year.
-     */
-    private static final Integer[] DEFAULT_MONTH_LENGTHS;
-    /**
-     * Holding the non-adjusted month length for leap year.
-     */
-    private static final Integer[] DEFAULT_LEAP_MONTH_LENGTHS;
-    /**
-     * Holding the non-adjusted 30 year cycle starting day.
-     */
-    private static final Integer[] DEFAULT_CYCLE_YEARS;
     /**
      * number of 30-year cycles to hold the deviation data.
      */
     private static final int MAX_ADJUSTED_CYCLE = 334; // to support year 9999
 
-    static { // Initialize the static integer array;
-
-        DEFAULT_MONTH_DAYS = new Integer[NUM_DAYS.length];
-        for (int i = 0; i < NUM_DAYS.length; i++) {
-            DEFAULT_MONTH_DAYS[i] = Integer.valueOf(NUM_DAYS[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_DAYS = new Integer[LEAP_NUM_DAYS.length];
-        for (int i = 0; i < LEAP_NUM_DAYS.length; i++) {
-            DEFAULT_LEAP_MONTH_DAYS[i] = Integer.valueOf(LEAP_NUM_DAYS[i]);
-        }
-
-        DEFAULT_MONTH_LENGTHS = new Integer[MONTH_LENGTH.length];
-        for (int i = 0; i < MONTH_LENGTH.length; i++) {
-            DEFAULT_MONTH_LENGTHS[i] = Integer.valueOf(MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_LENGTHS = new Integer[LEAP_MONTH_LENGTH.length];
-        for (int i = 0; i < LEAP_MONTH_LENGTH.length; i++) {
-            DEFAULT_LEAP_MONTH_LENGTHS[i] = Integer.valueOf(LEAP_MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_CYCLE_YEARS = new Integer[CYCLEYEAR_START_DATE.length];
-        for (int i = 0; i < CYCLEYEAR_START_DATE.length; i++) {
-            DEFAULT_CYCLE_YEARS[i] = Integer.valueOf(CYCLEYEAR_START_DATE[i]);
-        }
-
-        ADJUSTED_CYCLES = new Long[MAX_ADJUSTED_CYCLE];
-        for (int i = 0; i < ADJUSTED_CYCLES.length; i++) {
-            ADJUSTED_CYCLES[i] = Long.valueOf(10631 * i);
-        }
-        // Initialize min values, least max values and max values.
-        ADJUSTED_MIN_VALUES = new Integer[MIN_VALUES.length];
-        for (int i = 0; i < MIN_VALUES.length; i++) {
-            ADJUSTED_MIN_VALUES[i] = Integer.valueOf(MIN_VALUES[i]);
-        }
-        ADJUSTED_LEAST_MAX_VALUES = new Integer[LEAST_MAX_VALUES.length];
-        for (int i = 0; i < LEAST_MAX_VALUES.length; i++) {
-            ADJUSTED_LEAST_MAX_VALUES[i] = Integer.valueOf(LEAST_MAX_VALUES[i]);
-        }
-        ADJUSTED_MAX_VALUES = new Integer[MAX_VALUES.length];
-        for (int i = 0; i < MAX_VALUES.length; i++) {
-            ADJUSTED_MAX_VALUES[i] = Integer.valueOf(MAX_VALUES[i]);
+    //GWT specific
+    /**
+     * Holder of the adjusted tables. The tables are built and the deviation
+     * configuration is read the first time a Hijrah date is computed, so that
+     * applications not using the Hijrah calendar do not pay for them.
+     */
+    private static final class Tables {
+        /**
+         * Holding the adjusted month days in year, indexed by year. A {@code null}
+         * row means that the year is not adjusted and the default month days apply.
+         */
+        static final int[][] ADJUSTED_MONTH_DAYS = new int[MAX_ADJUSTED_CYCLE * 30 + 1][];
+        /**
+         * Holding the adjusted month length in year, indexed by year. A {@code null}
+         * row means that the year is not adjusted and the default month lengths apply.
+         */
+        static final int[][] ADJUSTED_MONTH_LENGTHS = new int[MAX_ADJUSTED_CYCLE * 30 + 1][];
+        /**
+         * Holding the adjusted starting days of the years in the 30 year cycles.
+         * The starting day of year-in-cycle {@code y} of cycle {@code c} is held
+         * at index {@code c * 30 + y}.
+         */
+        static final int[] ADJUSTED_CYCLE_YEARS = new int[MAX_ADJUSTED_CYCLE * 30];
+        /**
+         * Holding the adjusted cycle in the 1 - 30000 year. The index is the cycle
+         * number and the value is the starting days in the cycle in the term.
+         */
+        static final int[] ADJUSTED_CYCLES = new int[MAX_ADJUSTED_CYCLE];
+        /**
+         * Holding the adjusted min values.
+         */
+        static final int[] ADJUSTED_MIN_VALUES = new int[MIN_VALUES.length];
+        /**
+         * Holding the adjusted max least max values.
+         */
+        static final int[] ADJUSTED_LEAST_MAX_VALUES = new int[LEAST_MAX_VALUES.length];
+        /**
+         * Holding adjusted max values.
+         */
+        static final int[] ADJUSTED_MAX_VALUES = new int[MAX_VALUES.length];
+
+        static { // Initialize the static integer arrays
+            for (int i = 0; i < MAX_ADJUSTED_CYCLE; i++) {
+                ADJUSTED_CYCLES[i] = 10631 * i;
+                System.arraycopy(CYCLEYEAR_START_DATE, 0, ADJUSTED_CYCLE_YEARS, i * 30, 30);
+            }
+            // Initialize min values, least max values and max values.
+            System.arraycopy(MIN_VALUES, 0, ADJUSTED_MIN_VALUES, 0, MIN_VALUES.length);
+            System.arraycopy(LEAST_MAX_VALUES, 0, ADJUSTED_LEAST_MAX_VALUES, 0, LEAST_MAX_VALUES.length);
+            System.arraycopy(MAX_VALUES, 0, ADJUSTED_MAX_VALUES, 0, MAX_VALUES.length);
+            readDeviationConfig(Support.getHijrahDeviation());
         }
-//GWT Specific
-//        try {
-//            readDeviationConfig();
-//        } catch (IOException e) {
-//            // do nothing. Ignore deviation config.
-//            // e.printStackTrace();
-//        } catch (ParseException e) {
-//            // do nothing. Ignore deviation config.
-//            // e.printStackTrace();
-//        }
     }
     /**
      * Number of Gregorian day of July 19, year 622 (Gregorian), which is epoch day
@@ -858,26 +777,13 @@ public final class HijrahDate
         int cycleNumber = (prolepticYear - 1) / 30; // 0-based.
         int yearInCycle = (prolepticYear - 1) % 30; // 0-based.
 
-        int dayInCycle = getAdjustedCycle(cycleNumber)[Math.abs(yearInCycle)]
-                .intValue();
+        int dayInCycle = getCycleYearStart(cycleNumber, Math.abs(yearInCycle));
 
         if (yearInCycle < 0) {
             dayInCycle = -dayInCycle;
         }
 
-        Long cycleDays;
-
-        try {
-            cycleDays = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleDays = null;
-        }
-
-        if (cycleDays == null) {
-            cycleDays = Long.valueOf(cycleNumber * 10631);
-        }
-
-        return (cycleDays.longValue() + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1);
+        return getCycleStart(cycleNumber) + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1;
     }
 
     /**
@@ -887,17 +793,22 @@ public final class HijrahDate
      * @return a cycle number
      */
     private static int getCycleNumber(long epochDay) {
-        Long[] days = ADJUSTED_CYCLES;
-        int cycleNumber;
-        try {
-            for (int i = 0; i < days.length; i++) {
-                if (epochDay < days[i].longValue()) {
-                    return i - 1;
-                }
-            }
-            cycleNumber = (int) epochDay / 10631;
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleNumber = (int) epochDay / 10631;
+        int[] days = Tables.ADJUSTED_CYCLES;
+        int last = days.length - 1;
+        if (epochDay < 0) {
+            return -1;
+        }
+        if (epochDay >= days[last]) {
+            return (int) epochDay / 10631;
+        }
+        // deviations only move the cycle starts by a few days, so the
+        // estimate is corrected by at most one step in either direction
+        int cycleNumber = Math.min((int) (epochDay / 10631), last);
+        while (epochDay < days[cycleNumber]) {
+            cycleNumber--;
+        }
+        while (epochDay >= days[cycleNumber + 1]) {
+            cycleNumber++;
         }
         return cycleNumber;
     }
@@ -910,17 +821,34 @@ public final class HijrahDate
      * @return a day of cycle
      */
     private static int getDayOfCycle(long epochDay, int cycleNumber) {
-        Long day;
+        return (int) (epochDay - getCycleStart(cycleNumber));
+    }
 
-        try {
-            day = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            day = null;
+    /**
+     * Returns the adjusted starting day of the cycle specified.
+     *
+     * @param cycleNumber  a cycle number
+     * @return the starting day of the cycle
+     */
+    private static long getCycleStart(int cycleNumber) {
+        if (cycleNumber >= 0 && cycleNumber < MAX_ADJUSTED_CYCLE) {
+            return Tables.ADJUSTED_CYCLES[cycleNumber];
         }
-        if (day == null) {
-            day = Long.valueOf(cycleNumber * 10631);
+        return cycleNumber * 10631;
+    }
+
+    /**
+     * Returns the adjusted starting day of a year within its 30 year cycle.
+     *
+     * @param cycleNumber  a cycle number
+     * @param yearInCycle  year in cycle, from 0 to 29
+     * @return the starting day of the year in the cycle
+     */
+    private static int getCycleYearStart(int cycleNumber, int yearInCycle) {
+        if (cycleNumber >= 0 && cycleNumber < MAX_ADJUSTED_CYCLE) {
+            return Tables.ADJUSTED_CYCLE_YEARS[cycleNumber * 30 + yearInCycle];
         }
-        return (int) (epochDay - day.longValue());
+        return CYCLEYEAR_START_DATE[yearInCycle];
     }
 
     /**
@@ -931,22 +859,27 @@ public final class HijrahDate
      * @return a year in cycle
      */
     private static int getYearInCycle(int cycleNumber, long dayOfCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
         if (dayOfCycle == 0) {
             return 0;
         }
+        int[] cycles = CYCLEYEAR_START_DATE;
+        int base = 0;
+        if (cycleNumber >= 0 && cycleNumber < MAX_ADJUSTED_CYCLE) {
+            cycles = Tables.ADJUSTED_CYCLE_YEARS;
+            base = cycleNumber * 30;
+        }
 
         if (dayOfCycle > 0) {
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle < cycles[i].intValue()) {
+            for (int i = 0; i < 30; i++) {
+                if (dayOfCycle < cycles[base + i]) {
                     return i - 1;
                 }
             }
             return 29;
         } else {
             dayOfCycle = -dayOfCycle;
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle <= cycles[i].intValue()) {
+            for (int i = 0; i < 30; i++) {
+                if (dayOfCycle <= cycles[base + i]) {
                     return i - 1;
                 }
             }
@@ -955,67 +888,35 @@ public final class HijrahDate
     }
 
     /**
-     * Returns adjusted 30 year cycle startind day as Integer array from the
-     * cycle number specified.
-     *
-     * @param cycleNumber  a cycle number
-     * @return an Integer array
-     */
-    private static Integer[] getAdjustedCycle(int cycleNumber) {
-        Integer[] cycles;
-        try {
-            cycles = ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(cycleNumber));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycles = null;
-        }
-        if (cycles == null) {
-            cycles = DEFAULT_CYCLE_YEARS;
-        }
-        return cycles;
-    }
-
-    /**
-     * Returns adjusted month days as Integer array form the year specified.
+     * Returns adjusted month days form the year specified.
      *
      * @param year  a year
-     * @return an Integer array
+     * @return the month days, not to be modified
      */
-    private static Integer[] getAdjustedMonthDays(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_DAYS.get(Integer.valueOf(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
+    private static int[] getAdjustedMonthDays(int year) {
+        int[] newMonths = null;
+        if (year > 0 && year < Tables.ADJUSTED_MONTH_DAYS.length) {
+            newMonths = Tables.ADJUSTED_MONTH_DAYS[year];
         }
         if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_DAYS;
-            } else {
-                newMonths = DEFAULT_MONTH_DAYS;
-            }
+            newMonths = isLeapYear(year) ? LEAP_NUM_DAYS : NUM_DAYS;
         }
         return newMonths;
     }
 
     /**
-     * Returns adjusted month length as Integer array form the year specified.
+     * Returns adjusted month length form the year specified.
      *
      * @param year  a year
-     * @return an Integer array
+     * @return the month lengths, not to be modified
      */
-    private static Integer[] getAdjustedMonthLength(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
+    private static int[] getAdjustedMonthLength(int year) {
+        int[] newMonths = null;
+        if (year > 0 && year < Tables.ADJUSTED_MONTH_LENGTHS.length) {
+            newMonths = Tables.ADJUSTED_MONTH_LENGTHS[year];
         }
         if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_LENGTHS;
-            } else {
-                newMonths = DEFAULT_MONTH_LENGTHS;
-            }
+            newMonths = isLeapYear(year) ? LEAP_MONTH_LENGTH : MONTH_LENGTH;
         }
         return newMonths;
     }
@@ -1029,12 +930,12 @@ public final class HijrahDate
      * @return day-of-year
      */
     private static int getDayOfYear(int cycleNumber, int dayOfCycle, int yearInCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
+        int yearStart = getCycleYearStart(cycleNumber, yearInCycle);
 
         if (dayOfCycle > 0) {
-            return dayOfCycle - cycles[yearInCycle].intValue();
+            return dayOfCycle - yearStart;
         } else {
-            return cycles[yearInCycle].intValue() + dayOfCycle;
+            return yearStart + dayOfCycle;
         }
     }
 
@@ -1047,25 +948,18 @@ public final class HijrahDate
      */
     private static int getMonthOfYear(int dayOfYear, int year) {
 
-        Integer[] newMonths = getAdjustedMonthDays(year);
+        int[] newMonths = getAdjustedMonthDays(year);
 
-        if (dayOfYear >= 0) {
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 11;
-        } else {
+        if (dayOfYear < 0) {
             dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
                     : (dayOfYear + 354));
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
+        }
+        for (int i = 0; i < newMonths.length; i++) {
+            if (dayOfYear < newMonths[i]) {
+                return i - 1;
             }
-            return 11;
         }
+        return 11;
     }
 
     /**
@@ -1078,22 +972,16 @@ public final class HijrahDate
      */
     private static int getDayOfMonth(int dayOfYear, int month, int year) {
 
-        Integer[] newMonths = getAdjustedMonthDays(year);
+        int[] newMonths = getAdjustedMonthDays(year);
 
-        if (dayOfYear >= 0) {
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
-            }
-        } else {
+        if (dayOfYear < 0) {
             dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
                     : (dayOfYear + 354));
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
-            }
+        }
+        if (month > 0) {
+            return dayOfYear - newMonths[month];
+        } else {
+            return dayOfYear;
         }
     }
 
@@ -1115,8 +1003,7 @@ public final class HijrahDate
      * @return month days from the beginning of year
      */
     private static int getMonthDays(int month, int year) {
-        Integer[] newMonths = getAdjustedMonthDays(year);
-        return newMonths[month].intValue();
+        return getAdjustedMonthDays(year)[month];
     }
 
     /**
@@ -1127,8 +1014,7 @@ public final class HijrahDate
      * @return month length
      */
     static int getMonthLength(int month, int year) {
-      Integer[] newMonths = getAdjustedMonthLength(year);
-      return newMonths[month].intValue();
+        return getAdjustedMonthLength(year)[month];
     }
 
     @Override
@@ -1145,24 +1031,15 @@ public final class HijrahDate
     static int getYearLength(int year) {
 
         int cycleNumber = (year - 1) / 30;
-        Integer[] cycleYears;
-        try {
-            cycleYears = ADJUSTED_CYCLE_YEARS.get(cycleNumber);
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleYears = null;
-        }
-        if (cycleYears != null) {
-            int yearInCycle = (year - 1) % 30;
-            if (yearInCycle == 29) {
-                return ADJUSTED_CYCLES[cycleNumber + 1].intValue()
-                        - ADJUSTED_CYCLES[cycleNumber].intValue()
-                        - cycleYears[yearInCycle].intValue();
-            }
-            return cycleYears[yearInCycle + 1].intValue()
-                    - cycleYears[yearInCycle].intValue();
-        } else {
+        if (year < 1 || cycleNumber >= MAX_ADJUSTED_CYCLE) {
             return isLeapYear(year) ? 355 : 354;
         }
+        int index = cycleNumber * 30 + (year - 1) % 30;
+        if (index % 30 == 29) {
+            return (int) (getCycleStart(cycleNumber + 1) - getCycleStart(cycleNumber))
+                    - Tables.ADJUSTED_CYCLE_YEARS[index];
+        }
+        return Tables.ADJUSTED_CYCLE_YEARS[index + 1] - Tables.ADJUSTED_CYCLE_YEARS[index];
     }
 
     @Override
@@ -1176,7 +1053,7 @@ public final class HijrahDate
      * @return maximum day-of-month
      */
     static int getMaximumDayOfMonth() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return Tables.ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH];
     }
 
     /**
@@ -1185,7 +1062,7 @@ public final class HijrahDate
      * @return smallest maximum day-of-month
      */
     static int getSmallestMaximumDayOfMonth() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return Tables.ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH];
     }
 
     /**
@@ -1194,7 +1071,7 @@ public final class HijrahDate
      * @return maximum day-of-year
      */
     static int getMaximumDayOfYear() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return Tables.ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR];
     }
 
     /**
@@ -1203,553 +1080,250 @@ public final class HijrahDate
      * @return smallest maximum day-of-year
      */
     static int getSmallestMaximumDayOfYear() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return Tables.ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR];
     }
 
     // ----- Deviation handling -----//
 
-  //GWT Specific
-//    /**
-//     * Adds deviation definition. The year and month sepcifed should be the
-//     * caluculated Hijrah year and month. The month is 0 based. e.g. 8 for
-//     * Ramadan (9th month) Addition of anything minus deviation days is
-//     * calculated negatively in the case the user wants to subtract days from
-//     * the calendar. For example, adding -1 days will subtract one day from the
-//     * current date. Please note that this behavior is different from the
-//     * addDeviaiton method.
-//     *
-//     * @param startYear  start year
-//     * @param startMonth  start month
-//     * @param endYear  end year
-//     * @param endMonth  end month
-//     * @param offset  offset
-//     */
-//    private static void addDeviationAsHijrah(int startYear,
-//            int startMonth, int endYear, int endMonth, int offset) {
-//
-//        if (startYear < 1) {
-//            throw new IllegalArgumentException("startYear < 1");
-//        }
-//        if (endYear < 1) {
-//            throw new IllegalArgumentException("endYear < 1");
-//        }
-//        if (startMonth < 0 || startMonth > 11) {
-//            throw new IllegalArgumentException(
-//                    "startMonth < 0 || startMonth > 11");
-//        }
-//        if (endMonth < 0 || endMonth > 11) {
-//            throw new IllegalArgumentException("endMonth < 0 || endMonth > 11");
-//        }
-//        if (endYear > 9999) {
-//            throw new IllegalArgumentException("endYear > 9999");
-//        }
-//        if (endYear < startYear) {
-//            throw new IllegalArgumentException("startYear > endYear");
-//        }
-//        if (endYear == startYear && endMonth < startMonth) {
-//            throw new IllegalArgumentException(
-//                    "startYear == endYear && endMonth < startMonth");
-//        }
-//
-//        // Adjusting start year.
-//        boolean isStartYLeap = isLeapYear(startYear);
-//
-//        // Adjusting the number of month.
-//        Integer[] orgStartMonthNums = ADJUSTED_MONTH_DAYS.get(Integer.valueOf(
-//                startYear));
-//        if (orgStartMonthNums == null) {
-//            if (isStartYLeap) {
-//                orgStartMonthNums = new Integer[LEAP_NUM_DAYS.length];
-//                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-//                    orgStartMonthNums[l] = Integer.valueOf(LEAP_NUM_DAYS[l]);
-//                }
-//            } else {
-//                orgStartMonthNums = new Integer[NUM_DAYS.length];
-//                for (int l = 0; l < NUM_DAYS.length; l++) {
-//                    orgStartMonthNums[l] = Integer.valueOf(NUM_DAYS[l]);
-//                }
-//            }
-//        }
-//
-//        Integer[] newStartMonthNums = new Integer[orgStartMonthNums.length];
-//
-//        for (int month = 0; month < 12; month++) {
-//            if (month > startMonth) {
-//                newStartMonthNums[month] = Integer.valueOf(orgStartMonthNums[month]
-//                        .intValue()
-//                        - offset);
-//            } else {
-//                newStartMonthNums[month] = Integer.valueOf(orgStartMonthNums[month]
-//                        .intValue());
-//            }
-//        }
-//
-//        ADJUSTED_MONTH_DAYS.put(Integer.valueOf(startYear), newStartMonthNums);
-//
-//        // Adjusting the days of month.
-//
-//        Integer[] orgStartMonthLengths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
-//                startYear));
-//        if (orgStartMonthLengths == null) {
-//            if (isStartYLeap) {
-//                orgStartMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-//                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-//                    orgStartMonthLengths[l] = Integer.valueOf(LEAP_MONTH_LENGTH[l]);
-//                }
-//            } else {
-//                orgStartMonthLengths = new Integer[MONTH_LENGTH.length];
-//                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-//                    orgStartMonthLengths[l] = Integer.valueOf(MONTH_LENGTH[l]);
-//                }
-//            }
-//        }
-//
-//        Integer[] newStartMonthLengths = new Integer[orgStartMonthLengths.length];
-//
-//        for (int month = 0; month < 12; month++) {
-//            if (month == startMonth) {
-//                newStartMonthLengths[month] = Integer.valueOf(
-//                        orgStartMonthLengths[month].intValue() - offset);
-//            } else {
-//                newStartMonthLengths[month] = Integer.valueOf(
-//                        orgStartMonthLengths[month].intValue());
-//            }
-//        }
-//
-//        ADJUSTED_MONTH_LENGTHS.put(Integer.valueOf(startYear), newStartMonthLengths);
-//
-//        if (startYear != endYear) {
-//            // System.out.println("over year");
-//            // Adjusting starting 30 year cycle.
-//            int sCycleNumber = (startYear - 1) / 30;
-//            int sYearInCycle = (startYear - 1) % 30; // 0-based.
-//            Integer[] startCycles = ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(
-//                    sCycleNumber));
-//            if (startCycles == null) {
-//                startCycles = new Integer[CYCLEYEAR_START_DATE.length];
-//                for (int j = 0; j < startCycles.length; j++) {
-//                    startCycles[j] = Integer.valueOf(CYCLEYEAR_START_DATE[j]);
-//                }
-//            }
-//
-//            for (int j = sYearInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-//                startCycles[j] = Integer.valueOf(startCycles[j].intValue() - offset);
-//            }
-//
-//            // System.out.println(sCycleNumber + ":" + sYearInCycle);
-//            ADJUSTED_CYCLE_YEARS.put(Integer.valueOf(sCycleNumber), startCycles);
-//
-//            int sYearInMaxY = (startYear - 1) / 30;
-//            int sEndInMaxY = (endYear - 1) / 30;
-//
-//            if (sYearInMaxY != sEndInMaxY) {
-//                // System.out.println("over 30");
-//                // Adjusting starting 30 * MAX_ADJUSTED_CYCLE year cycle.
-//                // System.out.println(sYearInMaxY);
-//
-//                for (int j = sYearInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-//                    ADJUSTED_CYCLES[j] = Long.valueOf(ADJUSTED_CYCLES[j].longValue()
-//                            - offset);
-//                }
-//
-//                // Adjusting ending 30 * MAX_ADJUSTED_CYCLE year cycles.
-//                for (int j = sEndInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-//                    ADJUSTED_CYCLES[j] = Long.valueOf(ADJUSTED_CYCLES[j].longValue()
-//                            + offset);
-//                }
-//            }
-//
-//            // Adjusting ending 30 year cycle.
-//            int eCycleNumber = (endYear - 1) / 30;
-//            int sEndInCycle = (endYear - 1) % 30; // 0-based.
-//            Integer[] endCycles = ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(
-//                    eCycleNumber));
-//            if (endCycles == null) {
-//                endCycles = new Integer[CYCLEYEAR_START_DATE.length];
-//                for (int j = 0; j < endCycles.length; j++) {
-//                    endCycles[j] = Integer.valueOf(CYCLEYEAR_START_DATE[j]);
-//                }
-//            }
-//            for (int j = sEndInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-//                endCycles[j] = Integer.valueOf(endCycles[j].intValue() + offset);
-//            }
-//            ADJUSTED_CYCLE_YEARS.put(Integer.valueOf(eCycleNumber), endCycles);
-//        }
-//
-//        // Adjusting ending year.
-//        boolean isEndYLeap = isLeapYear(endYear);
-//
-//        Integer[] orgEndMonthDays = ADJUSTED_MONTH_DAYS.get(Integer.valueOf(endYear));
-//
-//        if (orgEndMonthDays == null) {
-//            if (isEndYLeap) {
-//                orgEndMonthDays = new Integer[LEAP_NUM_DAYS.length];
-//                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-//                    orgEndMonthDays[l] = Integer.valueOf(LEAP_NUM_DAYS[l]);
-//                }
-//            } else {
-//                orgEndMonthDays = new Integer[NUM_DAYS.length];
-//                for (int l = 0; l < NUM_DAYS.length; l++) {
-//                    orgEndMonthDays[l] = Integer.valueOf(NUM_DAYS[l]);
-//                }
-//            }
-//        }
-//
-//        Integer[] newEndMonthDays = new Integer[orgEndMonthDays.length];
-//
-//        for (int month = 0; month < 12; month++) {
-//            if (month > endMonth) {
-//                newEndMonthDays[month] = Integer.valueOf(orgEndMonthDays[month]
-//                        .intValue()
-//                        + offset);
-//            } else {
-//                newEndMonthDays[month] = Integer.valueOf(orgEndMonthDays[month]
-//                        .intValue());
-//            }
-//        }
-//
-//        ADJUSTED_MONTH_DAYS.put(Integer.valueOf(endYear), newEndMonthDays);
-//
-//        // Adjusting the days of month.
-//        Integer[] orgEndMonthLengths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
-//                endYear));
-//
-//        if (orgEndMonthLengths == null) {
-//            if (isEndYLeap) {
-//                orgEndMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-//                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-//                    orgEndMonthLengths[l] = Integer.valueOf(LEAP_MONTH_LENGTH[l]);
-//                }
-//            } else {
-//                orgEndMonthLengths = new Integer[MONTH_LENGTH.length];
-//                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-//                    orgEndMonthLengths[l] = Integer.valueOf(MONTH_LENGTH[l]);
-//                }
-//            }
-//        }
-//
-//        Integer[] newEndMonthLengths = new Integer[orgEndMonthLengths.length];
-//
-//        for (int month = 0; month < 12; month++) {
-//            if (month == endMonth) {
-//                newEndMonthLengths[month] = Integer.valueOf(
-//                        orgEndMonthLengths[month].intValue() + offset);
-//            } else {
-//                newEndMonthLengths[month] = Integer.valueOf(
-//                        orgEndMonthLengths[month].intValue());
-//            }
-//        }
-//
-//        ADJUSTED_MONTH_LENGTHS.put(Integer.valueOf(endYear), newEndMonthLengths);
-//
-//        Integer[] startMonthLengths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
-//                startYear));
-//        Integer[] endMonthLengths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
-//                endYear));
-//        Integer[] startMonthDays = ADJUSTED_MONTH_DAYS
-//                .get(Integer.valueOf(startYear));
-//        Integer[] endMonthDays = ADJUSTED_MONTH_DAYS.get(Integer.valueOf(endYear));
-//
-//        int startMonthLength = startMonthLengths[startMonth].intValue();
-//        int endMonthLength = endMonthLengths[endMonth].intValue();
-//        int startMonthDay = startMonthDays[11].intValue()
-//                + startMonthLengths[11].intValue();
-//        int endMonthDay = endMonthDays[11].intValue()
-//                + endMonthLengths[11].intValue();
-//
-//        int maxMonthLength = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH]
-//                .intValue();
-//        int leastMaxMonthLength = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH]
-//                .intValue();
-//
-//        if (maxMonthLength < startMonthLength) {
-//            maxMonthLength = startMonthLength;
-//        }
-//        if (maxMonthLength < endMonthLength) {
-//            maxMonthLength = endMonthLength;
-//        }
-//        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH] = Integer.valueOf(maxMonthLength);
-//
-//        if (leastMaxMonthLength > startMonthLength) {
-//            leastMaxMonthLength = startMonthLength;
-//        }
-//        if (leastMaxMonthLength > endMonthLength) {
-//            leastMaxMonthLength = endMonthLength;
-//        }
-//        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH] = Integer.valueOf(
-//                leastMaxMonthLength);
-//
-//        int maxMonthDay = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR].intValue();
-//        int leastMaxMonthDay = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR]
-//                .intValue();
-//
-//        if (maxMonthDay < startMonthDay) {
-//            maxMonthDay = startMonthDay;
-//        }
-//        if (maxMonthDay < endMonthDay) {
-//            maxMonthDay = endMonthDay;
-//        }
-//
-//        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR] = Integer.valueOf(maxMonthDay);
-//
-//        if (leastMaxMonthDay > startMonthDay) {
-//            leastMaxMonthDay = startMonthDay;
-//        }
-//        if (leastMaxMonthDay > endMonthDay) {
-//            leastMaxMonthDay = endMonthDay;
-//        }
-//        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR] = Integer.valueOf(
-//                leastMaxMonthDay);
-//    }
-
-//GWT Specific
-//    /**
-//     * Read hijrah_deviation.cfg file. The config file contains the deviation data with
-//     * following format.
-//     *
-//     * StartYear/StartMonth(0-based)-EndYear/EndMonth(0-based):Deviation day (1,
-//     * 2, -1, or -2)
-//     *
-//     * Line separator or ";" is used for the separator of each deviation data.
-//     *
-//     * Here is the example.
-//     *
-//     * 1429/0-1429/1:1
-//     * 1429/2-1429/7:1;1429/6-1429/11:1
-//     * 1429/11-9999/11:1
-//     *
-//     * @throws IOException for zip/jar file handling exception.
-//     * @throws ParseException if the format of the configuration file is wrong.
-//     */
-//    private static void readDeviationConfig() throws IOException, ParseException {
-//        InputStream is = getConfigFileInputStream();
-//        if (is != null) {
-//            BufferedReader br = null;
-//            try {
-//                br = new BufferedReader(new InputStreamReader(is));
-//                String line = "";
-//                int num = 0;
-//                while ((line = br.readLine()) != null) {
-//                    num++;
-//                    line = line.trim();
-//                    parseLine(line, num);
-//                }
-//            } finally {
-//                if (br != null) {
-//                    br.close();
-//                }
-//            }
-//        }
-//    }
-
-    //GWT Specific
-//    /**
-//     * Parse each deviation element.
-//     *
-//     * @param line  a line to parse
-//     * @param num  line number
-//     * @throws ParseException if line has incorrect format.
-//     */
-//    private static void parseLine(String line, int num) throws ParseException {
-//        StringTokenizer st = new StringTokenizer(line, ";");
-//        while (st.hasMoreTokens()) {
-//            String deviationElement = st.nextToken();
-//            int offsetIndex = deviationElement.indexOf(':');
-//            if (offsetIndex != -1) {
-//                String offsetString = deviationElement.substring(
-//                        offsetIndex + 1, deviationElement.length());
-//                int offset;
-//                try {
-//                    offset = Integer.parseInt(offsetString);
-//                } catch (NumberFormatException ex) {
-//                    throw new ParseException(
-//                            "Offset is not properly set at line " + num + ".",
-//                            num);
-//                }
-//                int separatorIndex = deviationElement.indexOf('-');
-//                if (separatorIndex != -1) {
-//                    String startDateStg = deviationElement.substring(0,
-//                            separatorIndex);
-//                    String endDateStg = deviationElement.substring(
-//                            separatorIndex + 1, offsetIndex);
-//                    int startDateYearSepIndex = startDateStg.indexOf('/');
-//                    int endDateYearSepIndex = endDateStg.indexOf('/');
-//                    int startYear = -1;
-//                    int endYear = -1;
-//                    int startMonth = -1;
-//                    int endMonth = -1;
-//                    if (startDateYearSepIndex != -1) {
-//                        String startYearStg = startDateStg.substring(0,
-//                                startDateYearSepIndex);
-//                        String startMonthStg = startDateStg.substring(
-//                                startDateYearSepIndex + 1, startDateStg
-//                                        .length());
-//                        try {
-//                            startYear = Integer.parseInt(startYearStg);
-//                        } catch (NumberFormatException ex) {
-//                            throw new ParseException(
-//                                    "Start year is not properly set at line "
-//                                            + num + ".", num);
-//                        }
-//                        try {
-//                            startMonth = Integer.parseInt(startMonthStg);
-//                        } catch (NumberFormatException ex) {
-//                            throw new ParseException(
-//                                    "Start month is not properly set at line "
-//                                            + num + ".", num);
-//                        }
-//                    } else {
-//                        throw new ParseException(
-//                                "Start year/month has incorrect format at line "
-//                                        + num + ".", num);
-//                    }
-//                    if (endDateYearSepIndex != -1) {
-//                        String endYearStg = endDateStg.substring(0,
-//                                endDateYearSepIndex);
-//                        String endMonthStg = endDateStg.substring(
-//                                endDateYearSepIndex + 1, endDateStg.length());
-//                        try {
-//                            endYear = Integer.parseInt(endYearStg);
-//                        } catch (NumberFormatException ex) {
-//                            throw new ParseException(
-//                                    "End year is not properly set at line "
-//                                            + num + ".", num);
-//                        }
-//                        try {
-//                            endMonth = Integer.parseInt(endMonthStg);
-//                        } catch (NumberFormatException ex) {
-//                            throw new ParseException(
-//                                    "End month is not properly set at line "
-//                                            + num + ".", num);
-//                        }
-//                    } else {
-//                        throw new ParseException(
-//                                "End year/month has incorrect format at line "
-//                                        + num + ".", num);
-//                    }
-//                    if (startYear != -1 && startMonth != -1 && endYear != -1
-//                            && endMonth != -1) {
-//                        addDeviationAsHijrah(startYear, startMonth, endYear,
-//                                endMonth, offset);
-//                    } else {
-//                        throw new ParseException("Unknown error at line " + num
-//                                + ".", num);
-//                    }
-//                } else {
-//                    throw new ParseException(
-//                            "Start and end year/month has incorrect format at line "
-//                                    + num + ".", num);
-//                }
-//            } else {
-//                throw new ParseException("Offset has incorrect format at line "
-//                        + num + ".", num);
-//            }
-//        }
-//    }
-
-    //GWT Specific
-//    /**
-//     * Return InputStream for deviation configuration file.
-//     * The default location of the deviation file is:
-//     * <pre>
-//     *   $CLASSPATH/org/threeten/bp/chrono
-//     * </pre>
-//     * And the default file name is:
-//     * <pre>
-//     *   hijrah_deviation.cfg
-//     * </pre>
-//     * The default location and file name can be overriden by setting
-//     * following two Java's system property.
-//     * <pre>
-//     *   Location: org.threeten.bp.i18n.HijrahDate.deviationConfigDir
-//     *   File name: org.threeten.bp.i18n.HijrahDate.deviationConfigFile
-//     * </pre>
-//     * Regarding the file format, see readDeviationConfig() method for details.
-//     *
-//     * @return InputStream for file reading exception.
-//     * @throws IOException for zip/jar file handling exception.
-//     */
-//    private static InputStream getConfigFileInputStream() throws IOException {
-//
-//        String fileName = System
-//                .getProperty("org.threeten.bp.i18n.HijrahDate.deviationConfigFile");
-//
-//        if (fileName == null) {
-//            fileName = DEFAULT_CONFIG_FILENAME;
-//        }
-//
-//        String dir = System
-//                .getProperty("org.threeten.bp.i18n.HijrahDate.deviationConfigDir");
-//
-//        if (dir != null) {
-//            if (!(dir.length() == 0 && dir.endsWith(System
-//                    .getProperty("file.separator")))) {
-//                dir = dir + System.getProperty("file.separator");
-//            }
-//            File file = new File(dir + FILE_SEP + fileName);
-//            if (file.exists()) {
-//                try {
-//                    return new FileInputStream(file);
-//                } catch (IOException ioe) {
-//                    throw ioe;
-//                }
-//            } else {
-//                return null;
-//            }
-//        } else {
-//            String classPath = System.getProperty("java.class.path");
-//            StringTokenizer st = new StringTokenizer(classPath, PATH_SEP);
-//            while (st.hasMoreTokens()) {
-//                String path = st.nextToken();
-//                File file = new File(path);
-//                if (file.exists()) {
-//                    if (file.isDirectory()) {
-//                        File f = new File(
-//                                path + FILE_SEP + DEFAULT_CONFIG_PATH, fileName);
-//                        if (f.exists()) {
-//                            try {
-//                                return new FileInputStream(path + FILE_SEP
-//                                        + DEFAULT_CONFIG_PATH + FILE_SEP
-//                                        + fileName);
-//                            } catch (IOException ioe) {
-//                                throw ioe;
-//                            }
-//                        }
-//                    } else {
-//                        ZipFile zip;
-//                        try {
-//                            zip = new ZipFile(file);
-//                        } catch (IOException ioe) {
-//                            zip = null;
-//                        }
-//
-//                        if (zip != null) {
-//                            String targetFile = DEFAULT_CONFIG_PATH + FILE_SEP
-//                                    + fileName;
-//                            ZipEntry entry = zip.getEntry(targetFile);
-//
-//                            if (entry == null) {
-//                                if (FILE_SEP == '/') {
-//                                    targetFile = targetFile.replace('/', '\\');
-//                                } else if (FILE_SEP == '\\') {
-//                                    targetFile = targetFile.replace('\\', '/');
-//                                }
-//                                entry = zip.getEntry(targetFile);
-//                            }
-//
-//                            if (entry != null) {
-//                                try {
-//                                    return zip.getInputStream(entry);
-//                                } catch (IOException ioe) {
-//                                    throw ioe;
-//                                }
-//                            }
-//                        }
-//                    }
-//                }
-//            }
-//            return null;
-//        }
-//    }
+    /**
+     * Adds deviation definition. The year and month sepcifed should be the
+     * caluculated Hijrah year and month. The month is 0 based. e.g. 8 for
+     * Ramadan (9th month) Addition of anything minus deviation days is
+     * calculated negatively in the case the user wants to subtract days from
+     * the calendar. For example, adding -1 days will subtract one day from the
+     * current date. Please note that this behavior is different from the
+     * addDeviaiton method.
+     *
+     * @param startYear  start year
+     * @param startMonth  start month
+     * @param endYear  end year
+     * @param endMonth  end month
+     * @param offset  offset
+     */
+    private static void addDeviationAsHijrah(int startYear,
+            int startMonth, int endYear, int endMonth, int offset) {
+
+        checkDeviation(startYear, startMonth, endYear, endMonth);
+
+        // Adjusting start year.
+        int[] startMonthDays = getMonthDaysRow(startYear);
+        for (int month = startMonth + 1; month < 12; month++) {
+            startMonthDays[month] -= offset;
+        }
+        // Adjusting the days of month.
+        int[] startMonthLengths = getMonthLengthsRow(startYear);
+        startMonthLengths[startMonth] -= offset;
+
+        if (startYear != endYear) {
+            // Adjusting starting 30 year cycle.
+            int sCycleNumber = (startYear - 1) / 30;
+            int sYearInCycle = (startYear - 1) % 30; // 0-based.
+            for (int j = sYearInCycle + 1; j < 30; j++) {
+                Tables.ADJUSTED_CYCLE_YEARS[sCycleNumber * 30 + j] -= offset;
+            }
+
+            int eCycleNumber = (endYear - 1) / 30;
+            if (sCycleNumber != eCycleNumber) {
+                // Adjusting starting 30 * MAX_ADJUSTED_CYCLE year cycle.
+                for (int j = sCycleNumber + 1; j < MAX_ADJUSTED_CYCLE; j++) {
+                    Tables.ADJUSTED_CYCLES[j] -= offset;
+                }
+                // Adjusting ending 30 * MAX_ADJUSTED_CYCLE year cycles.
+                for (int j = eCycleNumber + 1; j < MAX_ADJUSTED_CYCLE; j++) {
+                    Tables.ADJUSTED_CYCLES[j] += offset;
+                }
+            }
+
+            // Adjusting ending 30 year cycle.
+            int eYearInCycle = (endYear - 1) % 30; // 0-based.
+            for (int j = eYearInCycle + 1; j < 30; j++) {
+                Tables.ADJUSTED_CYCLE_YEARS[eCycleNumber * 30 + j] += offset;
+            }
+        }
+
+        // Adjusting ending year.
+        int[] endMonthDays = getMonthDaysRow(endYear);
+        for (int month = endMonth + 1; month < 12; month++) {
+            endMonthDays[month] += offset;
+        }
+        // Adjusting the days of month.
+        int[] endMonthLengths = getMonthLengthsRow(endYear);
+        endMonthLengths[endMonth] += offset;
+
+        int startMonthLength = startMonthLengths[startMonth];
+        int endMonthLength = endMonthLengths[endMonth];
+        int startMonthDay = startMonthDays[11] + startMonthLengths[11];
+        int endMonthDay = endMonthDays[11] + endMonthLengths[11];
+
+        int[] maxValues = Tables.ADJUSTED_MAX_VALUES;
+        int[] leastMaxValues = Tables.ADJUSTED_LEAST_MAX_VALUES;
+        maxValues[POSITION_DAY_OF_MONTH] = Math.max(maxValues[POSITION_DAY_OF_MONTH],
+                Math.max(startMonthLength, endMonthLength));
+        leastMaxValues[POSITION_DAY_OF_MONTH] = Math.min(leastMaxValues[POSITION_DAY_OF_MONTH],
+                Math.min(startMonthLength, endMonthLength));
+        maxValues[POSITION_DAY_OF_YEAR] = Math.max(maxValues[POSITION_DAY_OF_YEAR],
+                Math.max(startMonthDay, endMonthDay));
+        leastMaxValues[POSITION_DAY_OF_YEAR] = Math.min(leastMaxValues[POSITION_DAY_OF_YEAR],
+                Math.min(startMonthDay, endMonthDay));
+    }
+
+    //GWT specific
+    /**
+     * Checks the year and month range of a deviation definition.
+     *
+     * @param startYear  start year
+     * @param startMonth  start month
+     * @param endYear  end year
+     * @param endMonth  end month
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    private static void checkDeviation(int startYear, int startMonth, int endYear, int endMonth) {
+        if (startYear < 1) {
+            throw new IllegalArgumentException("startYear < 1");
+        }
+        if (endYear < 1) {
+            throw new IllegalArgumentException("endYear < 1");
+        }
+        if (startMonth < 0 || startMonth > 11) {
+            throw new IllegalArgumentException(
+                    "startMonth < 0 || startMonth > 11");
+        }
+        if (endMonth < 0 || endMonth > 11) {
+            throw new IllegalArgumentException("endMonth < 0 || endMonth > 11");
+        }
+        if (endYear > 9999) {
+            throw new IllegalArgumentException("endYear > 9999");
+        }
+        if (endYear < startYear) {
+            throw new IllegalArgumentException("startYear > endYear");
+        }
+        if (endYear == startYear && endMonth < startMonth) {
+            throw new IllegalArgumentException(
+                    "startYear == endYear && endMonth < startMonth");
+        }
+    }
+
+    /**
+     * Returns the adjusted month days of the year specified, creating the
+     * adjusted row from the defaults if the year is not adjusted yet.
+     *
+     * @param year  a year, from 1 to 9999
+     * @return the modifiable month days
+     */
+    private static int[] getMonthDaysRow(int year) {
+        int[] row = Tables.ADJUSTED_MONTH_DAYS[year];
+        if (row == null) {
+            row = new int[12];
+            System.arraycopy(isLeapYear(year) ? LEAP_NUM_DAYS : NUM_DAYS, 0, row, 0, 12);
+            Tables.ADJUSTED_MONTH_DAYS[year] = row;
+        }
+        return row;
+    }
+
+    /**
+     * Returns the adjusted month lengths of the year specified, creating the
+     * adjusted row from the defaults if the year is not adjusted yet.
+     *
+     * @param year  a year, from 1 to 9999
+     * @return the modifiable month lengths
+     */
+    private static int[] getMonthLengthsRow(int year) {
+        int[] row = Tables.ADJUSTED_MONTH_LENGTHS[year];
+        if (row == null) {
+            row = new int[12];
+            System.arraycopy(isLeapYear(year) ? LEAP_MONTH_LENGTH : MONTH_LENGTH, 0, row, 0, 12);
+            Tables.ADJUSTED_MONTH_LENGTHS[year] = row;
+        }
+        return row;
+    }
+
+    //GWT specific
+    /**
+     * Read the deviation configuration. The configuration contains the deviation
+     * data with following format.
+     *
+     * StartYear/StartMonth(0-based)-EndYear/EndMonth(0-based):Deviation day (1,
+     * 2, -1, or -2)
+     *
+     * Line separator or ";" is used for the separator of each deviation data.
+     * Empty lines and lines starting with '#' are ignored, as are lines with
+     * an incorrect format.
+     *
+     * Here is the example.
+     *
+     * 1429/0-1429/1:1
+     * 1429/2-1429/7:1;1429/6-1429/11:1
+     * 1429/11-9999/11:1
+     *
+     * @param config  the deviation configuration, not null
+     */
+    private static void readDeviationConfig(String config) {
+        String[] lines = config.split("\r?\n");
+        for (int num = 1; num <= lines.length; num++) {
+            String line = lines[num - 1].trim();
+            if (line.length() > 0 && line.charAt(0) != '#') {
+                try {
+                    parseLine(line, num);
+                } catch (IllegalArgumentException e) {
+                    // do nothing. Ignore the malformed line.
+                }
+            }
+        }
+    }
+
+    //GWT specific
+    /**
+     * Parse each deviation element. The deviations of a line are applied only
+     * if all of its elements are valid.
+     *
+     * @param line  a line to parse
+     * @param num  line number
+     * @throws IllegalArgumentException if line has incorrect format.
+     */
+    private static void parseLine(String line, int num) {
+        String[] deviationElements = line.split(";");
+        int[][] deviations = new int[deviationElements.length][];
+        for (int i = 0; i < deviationElements.length; i++) {
+            String deviationElement = deviationElements[i];
+            int offsetIndex = deviationElement.indexOf(':');
+            if (offsetIndex == -1) {
+                throw new IllegalArgumentException("Offset has incorrect format at line " + num + ".");
+            }
+            int offset = parseInt(deviationElement.substring(offsetIndex + 1), "Offset", num);
+            int separatorIndex = deviationElement.indexOf('-');
+            if (separatorIndex == -1) {
+                throw new IllegalArgumentException(
+                        "Start and end year/month has incorrect format at line " + num + ".");
+            }
+            String startDateStg = deviationElement.substring(0, separatorIndex);
+            String endDateStg = deviationElement.substring(separatorIndex + 1, offsetIndex);
+            int startDateYearSepIndex = startDateStg.indexOf('/');
+            if (startDateYearSepIndex == -1) {
+                throw new IllegalArgumentException("Start year/month has incorrect format at line " + num + ".");
+            }
+            int endDateYearSepIndex = endDateStg.indexOf('/');
+            if (endDateYearSepIndex == -1) {
+                throw new IllegalArgumentException("End year/month has incorrect format at line " + num + ".");
+            }
+            int startYear = parseInt(startDateStg.substring(0, startDateYearSepIndex), "Start year", num);
+            int startMonth = parseInt(startDateStg.substring(startDateYearSepIndex + 1), "Start month", num);
+            int endYear = parseInt(endDateStg.substring(0, endDateYearSepIndex), "End year", num);
+            int endMonth = parseInt(endDateStg.substring(endDateYearSepIndex + 1), "End month", num);
+            checkDeviation(startYear, startMonth, endYear, endMonth);
+            deviations[i] = new int[] {startYear, startMonth, endYear, endMonth, offset};
+        }
+        for (int[] deviation : deviations) {
+            addDeviationAsHijrah(deviation[0], deviation[1], deviation[2], deviation[3], deviation[4]);
+        }
+    }
+
+    //GWT specific
+    private static int parseInt(String value, String name, int num) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " is not properly set at line " + num + ".");
+        }
+    }
 
 }
@@ -356,7 +356,7 @@ public final class JapaneseChronology extends Chronology implements Serializable
     }
 
     //-----------------------------------------------------------------------
-	// GWT Specific TODO
+	// GWT Specific
     @Override
     public ValueRange range(ChronoField field) {
         switch (field) {
@@ -380,7 +380,6 @@ public final class JapaneseChronology extends Chronology implements Serializable
             case PROLEPTIC_MONTH:
                 return field.range();
         }
-//        Calendar jcal = Calendar.getInstance(LOCALE);
         switch (field) {
             case ERA: {
                 JapaneseEra[] eras = JapaneseEra.values();
@@ -401,9 +400,7 @@ public final class JapaneseChronology extends Chronology implements Serializable
                 return ValueRange.of(1, 6, min, maxJapanese);
             }
             case MONTH_OF_YEAR:
-                throw new UnsupportedOperationException("Unimplementable field: " + field);
-//                return ValueRange.of(jcal.getMinimum(Calendar.MONTH) + 1, jcal.getGreatestMinimum(Calendar.MONTH) + 1,
-//                                             jcal.getLeastMaximum(Calendar.MONTH) + 1, jcal.getMaximum(Calendar.MONTH) + 1);
+                return field.range();
             case DAY_OF_YEAR: {
                 JapaneseEra[] eras = JapaneseEra.values();
                 int min = 366;
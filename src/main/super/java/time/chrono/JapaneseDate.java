@@ -47,7 +47,6 @@ import java.time.temporal.TemporalQuery;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
-//import java.util.Calendar;
 import java.util.Objects;
 
 /**
@@ -314,13 +313,13 @@ public final class JapaneseDate
     }
 
     @Override
-	// GWT specific TODO
+	// GWT specific
     public int lengthOfYear() {
-//        Calendar jcal = Calendar.getInstance(JapaneseChronology.LOCALE);
-//        jcal.set(Calendar.ERA, era.getValue() + JapaneseEra.ERA_OFFSET);
-//        jcal.set(yearOfEra, isoDate.getMonthValue() - 1, isoDate.getDayOfMonth());
-//        return  jcal.getActualMaximum(Calendar.DAY_OF_YEAR);
-    	return -1;
+        // the first and last years of an era are cut at the era boundaries
+        LocalDate eraEndDate = era.endDate();
+        int firstDay = (yearOfEra == 1 ? era.startDate().getDayOfYear() : 1);
+        int lastDay = (isoDate.getYear() == eraEndDate.getYear() ? eraEndDate.getDayOfYear() : isoDate.lengthOfYear());
+        return lastDay - firstDay + 1;
     }
 
     //-----------------------------------------------------------------------
@@ -366,18 +365,25 @@ public final class JapaneseDate
     }
 
     @Override
-	// GWT Specific TODO
+	// GWT Specific
     public ValueRange range(TemporalField field) {
         if (field instanceof ChronoField) {
             if (isSupported(field)) {
                 ChronoField f = (ChronoField) field;
                 switch (f) {
+                    case DAY_OF_MONTH:
+                        return ValueRange.of(1, lengthOfMonth());
                     case DAY_OF_YEAR:
-//                        return actualRange(Calendar.DAY_OF_YEAR);
-                        throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
-                    case YEAR_OF_ERA:
-//                        return actualRange(Calendar.YEAR);
-                        throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+                        return ValueRange.of(1, lengthOfYear());
+                    case YEAR_OF_ERA: {
+                        // the last year-of-era only counts if it still reaches this month and day
+                        LocalDate eraEndDate = era.endDate();
+                        int max = eraEndDate.getYear() - era.startDate().getYear() + 1;
+                        if (isoDate.withYear(eraEndDate.getYear()).isAfter(eraEndDate)) {
+                            max--;
+                        }
+                        return ValueRange.of(1, max);
+                    }
                 }
                 return getChronology().range(f);
             }
@@ -386,15 +392,6 @@ public final class JapaneseDate
         return field.rangeRefinedBy(this);
     }
 
-//GWT Specific TODO
-//    private ValueRange actualRange(int calendarField) {
-//        Calendar jcal = Calendar.getInstance(JapaneseChronology.LOCALE);
-//        jcal.set(Calendar.ERA, era.getValue() + JapaneseEra.ERA_OFFSET);
-//        jcal.set(yearOfEra, isoDate.getMonthValue() - 1, isoDate.getDayOfMonth());
-//        return ValueRange.of(jcal.getActualMinimum(calendarField),
-//                                     jcal.getActualMaximum(calendarField));
-//    }
-
     @Override
     public long getLong(TemporalField field) {
     	//GWT Specific
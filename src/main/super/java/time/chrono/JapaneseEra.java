@@ -99,6 +99,9 @@ public final class JapaneseEra
     // array for the singleton JapaneseEra instances
 	// GWT Specific TODO review
     private static JapaneseEra[] KNOWN_ERAS;
+    // GWT specific
+    // epoch-day of the first day of each known era, for binary search
+    private static long[] KNOWN_ERA_START_DAYS;
 
     static {
         JapaneseEra[] array = new JapaneseEra[5];
@@ -108,6 +111,7 @@ public final class JapaneseEra
         array[3] = HEISEI;
         array[4] = REIWA;
         KNOWN_ERAS = array;
+        KNOWN_ERA_START_DAYS = startDays(array);
     }
 
     /**
@@ -182,6 +186,7 @@ public final class JapaneseEra
         JapaneseEra era = new JapaneseEra(ADDITIONAL_VALUE, since, name);
         JapaneseEra[] newArray = Arrays.copyOf(known, 6);
         newArray[5] = era;
+        KNOWN_ERA_START_DAYS = startDays(newArray);
         KNOWN_ERAS = newArray;
 //        if (!KNOWN_ERAS.compareAndSet(known, newArray)) {
 //            throw new DateTimeException("Only one additional Japanese era can be added");
@@ -256,14 +261,27 @@ public final class JapaneseEra
         if (date.isBefore(MEIJI.since)) {
             throw new DateTimeException("Date too early: " + date);
         }
-        JapaneseEra[] known = KNOWN_ERAS;
-        for (int i = known.length - 1; i >= 0; i--) {
-            JapaneseEra era = known[i];
-            if (date.compareTo(era.since) >= 0) {
-                return era;
-            }
+        return KNOWN_ERAS[index(date.toEpochDay())];
+    }
+
+    //GWT specific
+    /**
+     * Returns the index of the era containing the epoch-day.
+     * @param epochDay  the epoch-day, not before the start of Meiji
+     * @return the index of the era in the known eras
+     */
+    private static int index(long epochDay) {
+        int index = Arrays.binarySearch(KNOWN_ERA_START_DAYS, epochDay);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    //GWT specific
+    private static long[] startDays(JapaneseEra[] eras) {
+        long[] days = new long[eras.length];
+        for (int i = 0; i < eras.length; i++) {
+            days[i] = eras[i].since.toEpochDay();
         }
-        return null;
+        return days;
     }
 
     /**
@@ -290,7 +308,7 @@ public final class JapaneseEra
      */
     LocalDate endDate() {
         int ordinal = ordinal(eraValue);
-        JapaneseEra[] eras = values();
+        JapaneseEra[] eras = KNOWN_ERAS;
         if (ordinal >= eras.length - 1) {
             return LocalDate.MAX;
         }
@@ -65,6 +65,18 @@ import java.util.Locale;
          throw new UnsupportedOperationException();
      }
 
+    /**
+     * Gets the localized formatting pattern for date and time styles.
+     *
+     * @param dateStyle  the date formatter style to obtain, null to obtain a time pattern
+     * @param timeStyle  the time formatter style to obtain, null to obtain a date pattern
+     * @param chrono  the chronology to use, not null
+     * @param locale  the locale to use, not null
+     * @return the pattern, null if the pattern is not available
+     */
+    public abstract String getPattern(
+            FormatStyle dateStyle, FormatStyle timeStyle, Chronology chrono, Locale locale);
+
    /**
      * Gets a localized date, time or date-time formatter.
      * <p>
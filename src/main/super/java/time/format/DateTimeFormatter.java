@@ -35,6 +35,7 @@ import static java.time.temporal.ChronoField.DAY_OF_MONTH;
 import static java.time.temporal.ChronoField.DAY_OF_WEEK;
 import static java.time.temporal.ChronoField.DAY_OF_YEAR;
 import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.INSTANT_SECONDS;
 import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.NANO_OF_SECOND;
@@ -44,6 +45,7 @@ import static java.time.temporal.ChronoField.YEAR;
 import java.io.IOException;
 import java.text.ParsePosition;
 import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.Period;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -60,6 +62,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -1392,6 +1395,59 @@ public final class DateTimeFormatter {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Formats a list of date-time objects using this formatter.
+     * <p>
+     * This is equivalent to calling {@link #format(TemporalAccessor)} for each element,
+     * but the print context and the output buffer are shared by all elements.
+     *
+     * @param temporals  the temporal objects to format, not null, no null elements
+     * @return the formatted strings in the order of the list, not null
+     * @throws DateTimeException if an error occurs during formatting
+     */
+    public String[] formatAll(List<? extends TemporalAccessor> temporals) {
+        Objects.requireNonNull(temporals, "temporals");
+        String[] out = new String[temporals.size()];
+        formatAll(temporals, out);
+        return out;
+    }
+
+    /**
+     * Formats a list of date-time objects into an array using this formatter.
+     * <p>
+     * This is equivalent to calling {@link #format(TemporalAccessor)} for each element,
+     * but the print context and the output buffer are shared by all elements.
+     * The formatted string of the element at index {@code i} is stored at index {@code i}
+     * of the output array.
+     *
+     * @param temporals  the temporal objects to format, not null, no null elements
+     * @param out  the array to store the formatted strings to, not null
+     * @throws IllegalArgumentException if the array is shorter than the list
+     * @throws DateTimeException if an error occurs during formatting
+     */
+    public void formatAll(List<? extends TemporalAccessor> temporals, String[] out) {
+        Objects.requireNonNull(temporals, "temporals");
+        Objects.requireNonNull(out, "out");
+        int size = temporals.size();
+        if (out.length < size) {
+            throw new IllegalArgumentException("Output array is too small: " + out.length + " < " + size);
+        }
+        StringBuilder buf = new StringBuilder(32);
+        DateTimePrintContext context = null;
+        for (int i = 0; i < size; i++) {
+            TemporalAccessor temporal = Objects.requireNonNull(temporals.get(i), "temporal");
+            if (context == null) {
+                context = new DateTimePrintContext(temporal, this);
+            } else {
+                context.reset(temporal, this);
+            }
+            buf.setLength(0);
+            printerParser.print(context, buf);
+            out[i] = buf.toString();
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fully parses the text producing a temporal object.
@@ -1545,6 +1601,136 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Fully parses a column of texts to epoch-days.
+     * <p>
+     * Each text is parsed and resolved exactly as by
+     * {@code parse(text, LocalDate.FROM)}, but the result is stored as the
+     * {@linkplain java.time.LocalDate#toEpochDay() epoch-day} of the date and no
+     * exception is thrown for an individual text. Instead, the error index
+     * of each text is stored in {@code errorIndexes}, using -1 for a text that
+     * parsed successfully, and otherwise the value that
+     * {@link DateTimeParseException#getErrorIndex()} would have returned.
+     * The epoch-day of a text that failed to parse is left unchanged.
+     * <p>
+     * The parse context is shared between the texts, making this more efficient
+     * than calling {@link #parse(CharSequence, TemporalQuery)} in a loop.
+     *
+     * @param texts  the texts to parse, not null, and not containing null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @param errorIndexes  the array to store the error indexes in, not null
+     * @return the number of texts that could not be parsed
+     * @throws IllegalArgumentException if either array is smaller than the list
+     */
+    public int parseAllToEpochDay(List<? extends CharSequence> texts, long[] epochDays, int[] errorIndexes) {
+        Objects.requireNonNull(texts, "texts");
+        Objects.requireNonNull(epochDays, "epochDays");
+        int size = checkColumn(texts, epochDays.length, errorIndexes);
+        DateTimeParseContext context = new DateTimeParseContext(this);
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            DateTimeBuilder builder = parseRow(context, texts.get(i), errorIndexes, i);
+            if (builder != null && builder.date == null) {
+                errorIndexes[i] = 0;
+                builder = null;
+            }
+            if (builder == null) {
+                failed++;
+            } else {
+                epochDays[i] = builder.date.toEpochDay();
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Fully parses a column of texts to instants.
+     * <p>
+     * Each text is parsed and resolved exactly as by
+     * {@code parse(text, Instant.FROM)}, but the result is stored as the
+     * epoch-second and nano-of-second of the instant and no exception is thrown
+     * for an individual text. Instead, the error index of each text is stored in
+     * {@code errorIndexes}, using -1 for a text that parsed successfully, and
+     * otherwise the value that {@link DateTimeParseException#getErrorIndex()}
+     * would have returned.
+     * The epoch-second and nano of a text that failed to parse are left unchanged.
+     * <p>
+     * The parse context is shared between the texts, making this more efficient
+     * than calling {@link #parse(CharSequence, TemporalQuery)} in a loop.
+     *
+     * @param texts  the texts to parse, not null, and not containing null
+     * @param epochSeconds  the array to store the epoch-seconds in, not null
+     * @param nanos  the array to store the nano-of-second values in, not null
+     * @param errorIndexes  the array to store the error indexes in, not null
+     * @return the number of texts that could not be parsed
+     * @throws IllegalArgumentException if any array is smaller than the list
+     */
+    public int parseAllToInstant(List<? extends CharSequence> texts, long[] epochSeconds, int[] nanos, int[] errorIndexes) {
+        Objects.requireNonNull(texts, "texts");
+        Objects.requireNonNull(epochSeconds, "epochSeconds");
+        Objects.requireNonNull(nanos, "nanos");
+        int size = checkColumn(texts, Math.min(epochSeconds.length, nanos.length), errorIndexes);
+        DateTimeParseContext context = new DateTimeParseContext(this);
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            DateTimeBuilder builder = parseRow(context, texts.get(i), errorIndexes, i);
+            if (builder == null) {
+                failed++;
+                continue;
+            }
+            try {
+                long secs = builder.getLong(INSTANT_SECONDS);
+                int nos = builder.get(NANO_OF_SECOND);
+                if (secs < Instant.MIN.getEpochSecond() || secs > Instant.MAX.getEpochSecond()) {
+                    throw new DateTimeException("Instant exceeds minimum or maximum instant");
+                }
+                epochSeconds[i] = secs;
+                nanos[i] = nos;
+            } catch (DateTimeException ex) {
+                errorIndexes[i] = 0;
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    private static int checkColumn(List<? extends CharSequence> texts, int length, int[] errorIndexes) {
+        Objects.requireNonNull(errorIndexes, "errorIndexes");
+        int size = texts.size();
+        if (length < size || errorIndexes.length < size) {
+            throw new IllegalArgumentException("Output array is too small: " +
+                    Math.min(length, errorIndexes.length) + " < " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Parses and resolves a single row of a column, reusing the context.
+     *
+     * @return the resolved builder, null if the row failed and the error index was stored
+     */
+    private DateTimeBuilder parseRow(DateTimeParseContext context, CharSequence text, int[] errorIndexes, int row) {
+        Objects.requireNonNull(text, "text");
+        context.reset();
+        int pos = printerParser.parse(context, text, 0);
+        if (pos < 0) {
+            errorIndexes[row] = ~pos;
+            return null;
+        }
+        if (pos < text.length()) {
+            errorIndexes[row] = pos;
+            return null;
+        }
+        try {
+            DateTimeBuilder builder = context.toParsed().toBuilder().resolve(resolverStyle, resolverFields);
+            errorIndexes[row] = -1;
+            return builder;
+        } catch (RuntimeException ex) {
+            errorIndexes[row] = 0;
+            return null;
+        }
+    }
+
     private DateTimeParseException createError(CharSequence text, RuntimeException ex) {
         String abbr = "";
         if (text.length() > 64) {
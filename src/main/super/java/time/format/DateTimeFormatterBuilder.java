@@ -171,20 +171,11 @@ public final class DateTimeFormatterBuilder {
         if (dateStyle == null && timeStyle == null) {
             throw new IllegalArgumentException("Either dateStyle or timeStyle must be non-null");
         }
-//GWT Specific TODO
-//        DateFormat dateFormat;
-//        if (dateStyle != null) {
-//            if (timeStyle != null) {
-//                dateFormat = DateFormat.getDateTimeInstance(dateStyle.ordinal(), timeStyle.ordinal(), locale);
-//            } else {
-//                dateFormat = DateFormat.getDateInstance(dateStyle.ordinal(), locale);
-//            }
-//        } else {
-//            dateFormat = DateFormat.getTimeInstance(timeStyle.ordinal(), locale);
-//        }
-//        if (dateFormat instanceof SimpleDateFormat) {
-//            return ((SimpleDateFormat) dateFormat).toPattern();
-//        }
+        // GWT Specific
+        String pattern = DateTimeFormatStyleProvider.getInstance().getPattern(dateStyle, timeStyle, chrono, locale);
+        if (pattern != null) {
+            return pattern;
+        }
         throw new IllegalArgumentException("Unable to determine pattern");
     }
 
@@ -734,6 +725,10 @@ public final class DateTimeFormatterBuilder {
             public Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale) {
                 return store.getTextIterator(style);
             }
+            @Override
+            TextTrie getTextTrie(TemporalField field, TextStyle style, Locale locale) {
+                return store.getTextTrie(style);
+            }
         };
         appendInternal(new TextPrinterParser(field, TextStyle.FULL, provider));
         return this;
@@ -2872,14 +2867,11 @@ public final class DateTimeFormatterBuilder {
                 throw new IndexOutOfBoundsException();
             }
             TextStyle style = (context.isStrict() ? textStyle : null);
-            Iterator<Entry<String, Long>> it = provider.getTextIterator(field, style, context.getLocale());
-            if (it != null) {
-                while (it.hasNext()) {
-                    Entry<String, Long> entry = it.next();
-                    String itText = entry.getKey();
-                    if (context.subSequenceEquals(itText, 0, parseText, position, itText.length())) {
-                        return context.setParsedField(field, entry.getValue(), position, position + itText.length());
-                    }
+            DateTimeTextProvider.TextTrie trie = provider.getTextTrie(field, style, context.getLocale());
+            if (trie != null) {
+                Entry<String, Long> entry = trie.match(parseText, position, context.isCaseSensitive());
+                if (entry != null) {
+                    return context.setParsedField(field, entry.getValue(), position, position + entry.getKey().length());
                 }
                 if (context.isStrict()) {
                     return ~position;
@@ -410,6 +410,21 @@ final class DateTimeParseContext {
         return currentParsed();
     }
 
+    /**
+     * Resets this context so that it can be reused to parse another text.
+     * <p>
+     * The formatter settings are retained, while the parsed state is returned
+     * to that of a newly created context.
+     */
+    void reset() {
+        caseSensitive = true;
+        strict = true;
+        for (int i = parsed.size() - 1; i > 0; i--) {
+            parsed.remove(i);
+        }
+        parsed.get(0).clear();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string version of the context for debugging.
@@ -435,6 +450,14 @@ final class DateTimeParseContext {
 
         private Parsed() {
         }
+        void clear() {
+            chrono = null;
+            zone = null;
+            fieldValues.clear();
+            leapSecond = false;
+            excessDays = Period.ZERO;
+            callbacks = null;
+        }
         protected Parsed copy() {
             Parsed cloned = new Parsed();
             cloned.chrono = this.chrono;
@@ -80,6 +80,10 @@ final class DateTimePrintContext {
      * Whether the current formatter is optional.
      */
     private int optional;
+    /**
+     * Whether the formatter overrides the chronology or zone of the temporal.
+     */
+    private final boolean hasOverrides;
 
     /**
      * Creates a new instance of the context.
@@ -89,6 +93,7 @@ final class DateTimePrintContext {
      */
     DateTimePrintContext(TemporalAccessor temporal, DateTimeFormatter formatter) {
         super();
+        this.hasOverrides = formatter.getChronology() != null || formatter.getZone() != null;
         this.temporal = adjust(temporal, formatter);
         this.locale = formatter.getLocale();
         this.symbols = formatter.getDecimalStyle();
@@ -96,11 +101,23 @@ final class DateTimePrintContext {
 
     // for testing
     DateTimePrintContext(TemporalAccessor temporal, Locale locale, DecimalStyle symbols) {
+        this.hasOverrides = false;
         this.temporal = temporal;
         this.locale = locale;
         this.symbols = symbols;
     }
 
+    /**
+     * Reuses this context to print another temporal with the same formatter.
+     *
+     * @param temporal  the temporal object being output, not null
+     * @param formatter  the formatter this context was created with, not null
+     */
+    void reset(TemporalAccessor temporal, DateTimeFormatter formatter) {
+        this.temporal = (hasOverrides ? adjust(temporal, formatter) : temporal);
+        this.optional = 0;
+    }
+
     private static TemporalAccessor adjust(final TemporalAccessor temporal, DateTimeFormatter formatter) {
         // normal case first
         Chronology overrideChrono = formatter.getChronology();
@@ -113,6 +113,137 @@ abstract class DateTimeTextProvider {
      */
     public abstract Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale);
 
+    /**
+     * Gets a prefix tree of text to field for the specified field, locale and style
+     * for the purpose of parsing.
+     * <p>
+     * The default implementation builds the tree from {@link #getTextIterator}
+     * on each call, implementations should cache the tree.
+     *
+     * @param field  the field to get text for, not null
+     * @param style  the style to get text for, null for all parsable text
+     * @param locale  the locale to get text for, not null
+     * @return the tree of text to field pairs, null if the field or style is not parsable
+     */
+    TextTrie getTextTrie(TemporalField field, TextStyle style, Locale locale) {
+        Iterator<Entry<String, Long>> it = getTextIterator(field, style, locale);
+        return it != null ? TextTrie.of(it) : null;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prefix tree of parsable text supporting case sensitive and insensitive lookup
+     * of the longest text matching at a position.
+     * <p>
+     * This class is immutable once built and thread-safe.
+     */
+    static final class TextTrie {
+        /**
+         * Root of the exact text tree.
+         */
+        private final Node exact = new Node();
+        /**
+         * Root of the case folded text tree.
+         */
+        private final Node folded = new Node();
+
+        /**
+         * Creates the tree from text to field pairs.
+         * <p>
+         * If several texts are equal the first one wins,
+         * as when the pairs are iterated and matched in order.
+         *
+         * @param it  the iterator of text to field pairs, not null
+         * @return the tree, not null
+         */
+        static TextTrie of(Iterator<Entry<String, Long>> it) {
+            TextTrie trie = new TextTrie();
+            while (it.hasNext()) {
+                Entry<String, Long> entry = it.next();
+                trie.exact.add(entry, false);
+                trie.folded.add(entry, true);
+            }
+            return trie;
+        }
+
+        /**
+         * Finds the longest text matching the parse text at the position.
+         *
+         * @param parseText  the text to parse, not null
+         * @param position  the position to start matching at, valid
+         * @param caseSensitive  whether to match case sensitively
+         * @return the matched text to field pair, null if no text matches
+         */
+        Entry<String, Long> match(CharSequence parseText, int position, boolean caseSensitive) {
+            Node node = caseSensitive ? exact : folded;
+            Entry<String, Long> result = null;
+            int length = parseText.length();
+            for (int pos = position; pos < length; pos++) {
+                char ch = parseText.charAt(pos);
+                node = node.child(caseSensitive ? ch : fold(ch));
+                if (node == null) {
+                    break;
+                }
+                if (node.entry != null) {
+                    result = node.entry;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Folds the case of the character, two characters equal ignoring case
+         * as defined by {@link DateTimeParseContext#charEqualsIgnoreCase} have the same fold.
+         */
+        private static char fold(char ch) {
+            return Character.toLowerCase(Character.toUpperCase(ch));
+        }
+
+        /**
+         * Node of the tree, children are kept in small parallel arrays.
+         */
+        private static final class Node {
+            private char[] keys = new char[0];
+            private Node[] children = new Node[0];
+            private Entry<String, Long> entry;
+
+            void add(Entry<String, Long> textEntry, boolean fold) {
+                String text = textEntry.getKey();
+                Node node = this;
+                for (int i = 0; i < text.length(); i++) {
+                    char ch = text.charAt(i);
+                    char key = fold ? fold(ch) : ch;
+                    Node next = node.child(key);
+                    if (next == null) {
+                        next = new Node();
+                        int size = node.keys.length;
+                        char[] keys = new char[size + 1];
+                        Node[] children = new Node[size + 1];
+                        System.arraycopy(node.keys, 0, keys, 0, size);
+                        System.arraycopy(node.children, 0, children, 0, size);
+                        keys[size] = key;
+                        children[size] = next;
+                        node.keys = keys;
+                        node.children = children;
+                    }
+                    node = next;
+                }
+                if (node.entry == null) {
+                    node.entry = textEntry;
+                }
+            }
+
+            Node child(char key) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == key) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     // use JVM class initializtion to lock the singleton without additional synchronization
     //GWT specific
@@ -36,17 +36,17 @@ import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.jresearch.threetenbp.gwt.client.Support;
+
 /**
  * The Service Provider Implementation to obtain date-time formatters for a style.
  * <p>
- * This implementation is based on extraction of data from a {@link SimpleDateFormat}.
+ * This implementation is based on extraction of pattern from the browser {@code Intl.DateTimeFormat}.
  *
  * <h3>Specification for implementors</h3>
  * This class is immutable and thread-safe.
  */
 final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvider {
-    // TODO: Better implementation based on CLDR
-
     /** Cache of formatters. */
     private static final ConcurrentMap<String, Object> FORMATTER_CACHE =
                         new ConcurrentHashMap<String, Object>(16, 0.75f);
@@ -72,34 +72,47 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
             }
             return (DateTimeFormatter) cached;
         }
-//GWT Specific TODO!!!
-//        DateFormat dateFormat;
-//        if (dateStyle != null) {
-//            if (timeStyle != null) {
-//                dateFormat = DateFormat.getDateTimeInstance(convertStyle(dateStyle), convertStyle(timeStyle), locale);
-//            } else {
-//                dateFormat = DateFormat.getDateInstance(convertStyle(dateStyle), locale);
-//            }
-//        } else {
-//            dateFormat = DateFormat.getTimeInstance(convertStyle(timeStyle), locale);
-//        }
-//        if (dateFormat instanceof SimpleDateFormat) {
-//            String pattern = ((SimpleDateFormat) dateFormat).toPattern();
-//            DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
-//            FORMATTER_CACHE.putIfAbsent(key, formatter);
-//            return formatter;
-//        }
+        // GWT Specific
+        String pattern = getPattern(dateStyle, timeStyle, chrono, locale);
+        if (pattern != null) {
+            try {
+                DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+                FORMATTER_CACHE.putIfAbsent(key, formatter);
+                return formatter;
+            } catch (IllegalArgumentException ex) {
+                // fall through, pattern is not expressible as a DateTimeFormatter pattern
+            }
+        }
         FORMATTER_CACHE.putIfAbsent(key, "");
         throw new IllegalArgumentException("Unable to convert DateFormat to DateTimeFormatter");
     }
 
+    // GWT Specific
+    @Override
+    public String getPattern(
+            FormatStyle dateStyle, FormatStyle timeStyle, Chronology chrono, Locale locale) {
+        String pattern = Support.displayPattern(convertStyle(dateStyle), convertStyle(timeStyle),
+                convertCalendar(chrono), locale.toLanguageTag());
+        return pattern.isEmpty() ? null : pattern;
+    }
+
+    /**
+     * Converts the enum style to the Intl format style.
+     * @param style  the enum style, may be null
+     * @return the Intl style, null if style is null
+     */
+    private static String convertStyle(FormatStyle style) {
+        return style == null ? null : style.name().toLowerCase();
+    }
+
     /**
-     * Converts the enum style to the old format style.
-     * @param style  the enum style, not null
-     * @return the int style
+     * Converts the chronology to the Intl calendar type.
+     * @param chrono  the chronology, not null
+     * @return the Intl calendar type
      */
-    private int convertStyle(FormatStyle style) {
-        return style.ordinal();  // indices happen to align
+    private static String convertCalendar(Chronology chrono) {
+        String calendarType = chrono.getCalendarType();
+        return calendarType == null || "iso8601".equals(calendarType) ? "gregory" : calendarType;
     }
 
 }
@@ -104,6 +104,15 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return null;
     }
 
+    @Override
+    TextTrie getTextTrie(TemporalField field, TextStyle style, Locale locale) {
+        Object store = findStore(field, locale);
+        if (store instanceof LocaleStore) {
+            return ((LocaleStore) store).getTextTrie(style);
+        }
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     private Object findStore(TemporalField field, Locale locale) {
         Entry<TemporalField, Locale> key = createEntry(field, locale);
@@ -418,6 +427,10 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * Parsable data.
          */
         private final Map<TextStyle, List<Entry<String, Long>>> parsable;
+        /**
+         * Parsable data as prefix trees.
+         */
+        private final Map<TextStyle, TextTrie> tries;
 
         //-----------------------------------------------------------------------
         /**
@@ -444,6 +457,11 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             }
             Collections.sort(allList, COMPARATOR);
             this.parsable = map;
+            Map<TextStyle, TextTrie> trieMap = new HashMap<TextStyle, TextTrie>();
+            for (Entry<TextStyle, List<Entry<String, Long>>> entry : map.entrySet()) {
+                trieMap.put(entry.getKey(), TextTrie.of(entry.getValue().iterator()));
+            }
+            this.tries = trieMap;
         }
 
         //-----------------------------------------------------------------------
@@ -473,6 +491,16 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             List<Entry<String, Long>> list = parsable.get(style);
             return list != null ? list.iterator() : null;
         }
+
+        /**
+         * Gets a prefix tree of text to field for the specified style for the purpose of parsing.
+         *
+         * @param style  the style to get text for, null for all parsable text
+         * @return the tree of text to field pairs, null if the style is not parsable
+         */
+        TextTrie getTextTrie(TextStyle style) {
+            return tries.get(style);
+        }
     }
 
 }
@@ -204,6 +204,195 @@ public final class IsoFields {
         throw new AssertionError("Not instantiable");
     }
 
+    //-----------------------------------------------------------------------
+    //GWT specific
+    /**
+     * The default first week-based-year of the week table.
+     */
+    private static final int DEFAULT_WEEK_TABLE_MIN_YEAR = 1900;
+    /**
+     * The default last week-based-year of the week table.
+     */
+    private static final int DEFAULT_WEEK_TABLE_MAX_YEAR = 2100;
+    /**
+     * The limit of the week-based-years of the week table, keeping the years of its dates
+     * within those of {@link LocalDate#toEpochDayInt()}.
+     */
+    private static final int WEEK_TABLE_YEAR_LIMIT = 999_998;
+    /**
+     * The maximum number of week-based-years of the week table, bounding its size and creation time.
+     */
+    private static final int MAX_WEEK_TABLE_YEARS = 10_000;
+    /**
+     * The week table, created lazily.
+     */
+    private static WeekTable weekTable;
+
+    /**
+     * Sets the range of week-based-years covered by the week table.
+     * <p>
+     * The week table holds the start of week one of each week-based-year in the range.
+     * Queries of {@link #WEEK_OF_WEEK_BASED_YEAR} and {@link #WEEK_BASED_YEAR} for dates
+     * in the range are answered from the table, other dates are calculated.
+     * The default range is from 1900 to 2100, the range may span at most 10,000 years.
+     * <p>
+     * NOTE: This method does not exist in Java SE 8.
+     *
+     * @param minWeekBasedYear  the first week-based-year of the table, from -999,998 to 999,998
+     * @param maxWeekBasedYear  the last week-based-year of the table, from -999,998 to 999,998
+     * @throws IllegalArgumentException if a year is outside the limits, the maximum is before the minimum
+     *  or the range spans more than 10,000 years
+     */
+    public static void setWeekTableRange(int minWeekBasedYear, int maxWeekBasedYear) {
+        if (minWeekBasedYear < -WEEK_TABLE_YEAR_LIMIT || maxWeekBasedYear > WEEK_TABLE_YEAR_LIMIT) {
+            throw new IllegalArgumentException("Week table range must be within -999998 and 999998: " +
+                    minWeekBasedYear + " to " + maxWeekBasedYear);
+        }
+        if (maxWeekBasedYear < minWeekBasedYear) {
+            throw new IllegalArgumentException("Week table maximum must not be before minimum: " +
+                    minWeekBasedYear + " to " + maxWeekBasedYear);
+        }
+        if (maxWeekBasedYear - minWeekBasedYear >= MAX_WEEK_TABLE_YEARS) {
+            throw new IllegalArgumentException("Week table range must not span more than 10000 years: " +
+                    minWeekBasedYear + " to " + maxWeekBasedYear);
+        }
+        weekTable = new WeekTable(minWeekBasedYear, maxWeekBasedYear);
+    }
+
+    /**
+     * Obtains the week-based-year and week-of-week-based-year of each epoch-day.
+     * <p>
+     * This is equivalent to querying {@link #WEEK_BASED_YEAR} and {@link #WEEK_OF_WEEK_BASED_YEAR}
+     * of {@code LocalDate.ofEpochDay(epochDays[i])} and storing the results at index {@code i},
+     * without creating the dates. Epoch-days within the week table are looked up in constant time.
+     * <p>
+     * NOTE: This method does not exist in Java SE 8.
+     *
+     * @param epochDays  the epoch-days to query, not null
+     * @param weekBasedYears  the array to store the week-based-years in, not null
+     * @param weeks  the array to store the weeks-of-week-based-year in, not null
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static void toIsoWeeks(int[] epochDays, int[] weekBasedYears, int[] weeks) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        Objects.requireNonNull(weekBasedYears, "weekBasedYears");
+        Objects.requireNonNull(weeks, "weeks");
+        if (weekBasedYears.length != epochDays.length || weeks.length != epochDays.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        WeekTable table = weekTable();
+        for (int i = 0; i < epochDays.length; i++) {
+            int epochDay = epochDays[i];
+            int index = table.indexOf(epochDay);
+            if (index >= 0) {
+                weekBasedYears[i] = table.minYear + index;
+                weeks[i] = table.weekOf(index, epochDay);
+            } else {
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                weekBasedYears[i] = Field.getWeekBasedYear(date);
+                weeks[i] = Field.getWeek(date);
+            }
+        }
+    }
+
+    private static WeekTable weekTable() {
+        WeekTable table = weekTable;
+        if (table == null) {
+            table = new WeekTable(DEFAULT_WEEK_TABLE_MIN_YEAR, DEFAULT_WEEK_TABLE_MAX_YEAR);
+            weekTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Table of the start of week one of a range of week-based-years.
+     */
+    private static final class WeekTable {
+        /**
+         * The first week-based-year.
+         */
+        private final int minYear;
+        /**
+         * The last week-based-year.
+         */
+        private final int maxYear;
+        /**
+         * The epoch-day of the Monday of week one of each week-based-year,
+         * followed by that of the week-based-year after the last.
+         */
+        private final int[] weekOneStarts;
+
+        WeekTable(int minYear, int maxYear) {
+            this.minYear = minYear;
+            this.maxYear = maxYear;
+            this.weekOneStarts = new int[maxYear - minYear + 2];
+            for (int i = 0; i < weekOneStarts.length; i++) {
+                // the 4th of January is always in week one
+                int jan4 = LocalDate.of(minYear + i, 1, 4).toEpochDayInt();
+                weekOneStarts[i] = jan4 - Math.floorMod(jan4 + 3, 7);
+            }
+        }
+
+        /**
+         * Checks if the dates of a year may be within the table.
+         *
+         * @param year  the year
+         * @return true if the year overlaps the week-based-years of the table
+         */
+        boolean overlaps(int year) {
+            // a week-based-year starts and ends within a few days of its year
+            return year >= minYear - 1 && year <= maxYear + 1;
+        }
+
+        /**
+         * Gets the index of the week-based-year containing the epoch-day.
+         *
+         * @param epochDay  the epoch-day
+         * @return the index of the week-based-year, -1 if outside the table
+         */
+        int indexOf(int epochDay) {
+            int[] starts = weekOneStarts;
+            int last = starts.length - 1;
+            if (epochDay < starts[0] || epochDay >= starts[last]) {
+                return -1;
+            }
+            // week-based-years stay within a few days of the mean year, so the estimate is close
+            int index = Math.min((int) ((epochDay - starts[0]) / 365.2425), last - 1);
+            while (epochDay < starts[index]) {
+                index--;
+            }
+            while (epochDay >= starts[index + 1]) {
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * Gets the week-of-week-based-year of an epoch-day within the week-based-year.
+         *
+         * @param index  the index of the week-based-year
+         * @param epochDay  the epoch-day, within the week-based-year
+         * @return the week-of-week-based-year, from 1 to 53
+         */
+        int weekOf(int index, int epochDay) {
+            return (epochDay - weekOneStarts[index]) / 7 + 1;
+        }
+
+        /**
+         * Gets the number of weeks in a week-based-year.
+         *
+         * @param wby  the week-based-year
+         * @return the number of weeks, 52 or 53, or 0 if outside the table
+         */
+        int weeksIn(int wby) {
+            int index = wby - minYear;
+            if (index < 0 || index >= weekOneStarts.length - 1) {
+                return 0;
+            }
+            return (weekOneStarts[index + 1] - weekOneStarts[index]) / 7;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implementation of the field.
@@ -514,6 +703,11 @@ public final class IsoFields {
         }
 
         private static int getWeekRange(int wby) {
+            //GWT specific
+            int weeks = weekTable().weeksIn(wby);
+            if (weeks != 0) {
+                return weeks;
+            }
             LocalDate date = LocalDate.of(wby, 1, 1);
             // 53 weeks if standard year starts on Thursday, or Wed in a leap year
             if (date.getDayOfWeek() == THURSDAY || (date.getDayOfWeek() == WEDNESDAY && date.isLeapYear())) {
@@ -523,6 +717,15 @@ public final class IsoFields {
         }
 
         private static int getWeek(LocalDate date) {
+            //GWT specific
+            WeekTable table = weekTable();
+            if (table.overlaps(date.getYear())) {
+                int epochDay = date.toEpochDayInt();
+                int index = table.indexOf(epochDay);
+                if (index >= 0) {
+                    return table.weekOf(index, epochDay);
+                }
+            }
             int dow0 = date.getDayOfWeek().ordinal();
             int doy0 = date.getDayOfYear() - 1;
             int doyThu0 = doy0 + (3 - dow0);  // adjust to mid-week Thursday (which is 3 indexed from zero)
@@ -545,6 +748,14 @@ public final class IsoFields {
         }
 
         private static int getWeekBasedYear(LocalDate date) {
+            //GWT specific
+            WeekTable table = weekTable();
+            if (table.overlaps(date.getYear())) {
+                int index = table.indexOf(date.toEpochDayInt());
+                if (index >= 0) {
+                    return table.minYear + index;
+                }
+            }
             int year = date.getYear();
             int doy = date.getDayOfYear();
             if (doy <= 3) {
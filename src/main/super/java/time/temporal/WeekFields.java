@@ -54,6 +54,8 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.jresearch.threetenbp.gwt.client.Support;
+
 /**
  * Localized definitions of the day-of-week, week-of-month and week-of-year fields.
  * <p>
@@ -121,7 +123,8 @@ public final class WeekFields implements Serializable {
     // this is because callers shouldn't be expected to know the details of validity
 
     /**
-     * The cache of rules by firstDayOfWeek plus minimalDays.
+     * The cache of rules by firstDayOfWeek plus minimalDays, and of the locale
+     * rules by region.
      * Initialized first to be available for definition of ISO, etc.
      */
     private static final ConcurrentMap<String, WeekFields> CACHE = new ConcurrentHashMap<>(4, 0.75f);
@@ -188,23 +191,24 @@ public final class WeekFields implements Serializable {
      * Obtains an instance of {@code WeekFields} appropriate for a locale.
      * <p>
      * This will look up appropriate values from the provider of localization data.
+     * The week definition only depends on the region of the locale.
      *
      * @param locale  the locale to use, not null
      * @return the week-definition, not null
      */
-    //GWT Specific TODO!!!
+    //GWT Specific
     public static WeekFields of(Locale locale) {
         Objects.requireNonNull(locale, "locale");
-//        locale = new Locale(locale.getLanguage(), locale.getCountry());  // elminate variants
-
-        // obtain these from GregorianCalendar for now
-//
-//        GregorianCalendar gcal = new GregorianCalendar(locale);
-//        int calDow = gcal.getFirstDayOfWeek();
-//        DayOfWeek dow = DayOfWeek.SUNDAY.plus(calDow - 1);
-//        int minDays = gcal.getMinimalDaysInFirstWeek();
-//        return WeekFields.of(dow, minDays);
-        return null;
+        // region codes do not clash with the keys of of(DayOfWeek, int)
+        String region = locale.getCountry();
+        WeekFields rules = CACHE.get(region);
+        if (rules == null) {
+            int[] weekInfo = Support.weekInfo(region);
+            rules = WeekFields.of(DayOfWeek.of(weekInfo[0]), weekInfo[1]);
+            CACHE.putIfAbsent(region, rules);
+            rules = CACHE.get(region);
+        }
+        return rules;
     }
 
     /**
@@ -66,6 +66,10 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
      * The last year to have its transitions cached.
      */
     private static final int LAST_CACHED_YEAR = 2100;
+    /**
+     * The first year to have its transitions cached by index.
+     */
+    private static final int FIRST_CACHED_YEAR = 1900;
 
     /**
      * The transitions between standard offsets (epoch seconds), sorted.
@@ -98,6 +102,14 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
      */
     private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache =
                 new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
+    /**
+     * The transitions of the last rules, indexed by year from {@code FIRST_CACHED_YEAR}.
+     */
+    private transient ZoneOffsetTransition[][] lastRulesYears;
+    /**
+     * The historic transitions, created as they are used.
+     */
+    private transient ZoneOffsetTransition[] historicTransitions;
 
     /**
      * Creates an instance.
@@ -267,6 +279,20 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
         return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
     }
 
+    /**
+     * Simplifies these rules to fixed rules if they never change.
+     *
+     * @return fixed rules if there are no transitions at all, otherwise these rules, not null
+     */
+    //GWT specific
+    ZoneRules simplify() {
+        if (standardTransitions.length == 0 && savingsInstantTransitions.length == 0 &&
+                lastRules.length == 0 && standardOffsets[0].equals(wallOffsets[0])) {
+            return ZoneRules.of(wallOffsets[0]);
+        }
+        return this;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isFixedOffset() {
@@ -276,8 +302,16 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffset getOffset(Instant instant) {
-        long epochSec = instant.getEpochSecond();
+        return getOffsetAtEpochSecond(instant.getEpochSecond());
+    }
 
+    @Override
+    public ZoneOffset getOffsetAtEpochSecond(long epochSec) {
+        //GWT specific: the offset is fixed after the last transition when there are no last rules
+        int last = savingsInstantTransitions.length - 1;
+        if (lastRules.length == 0 && last >= 0 && epochSec >= savingsInstantTransitions[last]) {
+            return wallOffsets[last + 1];
+        }
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
@@ -328,7 +362,13 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
         return (info instanceof ZoneOffsetTransition ? (ZoneOffsetTransition) info : null);
     }
 
-    private Object getOffsetInfo(LocalDateTime dt) {
+    @Override
+    public Object getOffsetInfo(LocalDateTime dt) {
+        //GWT specific: the offset is fixed after the last transition when there are no last rules
+        int last = savingsLocalTransitions.length - 1;
+        if (lastRules.length == 0 && last >= 0 && dt.isAfter(savingsLocalTransitions[last])) {
+            return wallOffsets[wallOffsets.length - 1];
+        }
         // check if using last rules
         if (lastRules.length > 0 &&
                 dt.isAfter(savingsLocalTransitions[savingsLocalTransitions.length - 1])) {
@@ -359,23 +399,34 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
         }
         if ((index & 1) == 0) {
             // gap or overlap
-            LocalDateTime dtBefore = savingsLocalTransitions[index];
-            LocalDateTime dtAfter = savingsLocalTransitions[index + 1];
-            ZoneOffset offsetBefore = wallOffsets[index / 2];
-            ZoneOffset offsetAfter = wallOffsets[index / 2 + 1];
-            if (offsetAfter.getTotalSeconds() > offsetBefore.getTotalSeconds()) {
-                // gap
-                return new ZoneOffsetTransition(dtBefore, offsetBefore, offsetAfter);
-            } else {
-                // overlap
-                return new ZoneOffsetTransition(dtAfter, offsetBefore, offsetAfter);
-            }
+            //GWT specific
+            return findHistoricTransition(index / 2);
         } else {
             // normal (neither gap or overlap)
             return wallOffsets[index / 2 + 1];
         }
     }
 
+    /**
+     * Finds a historic transition, creating it only once.
+     *
+     * @param index  the index of the transition
+     * @return the transition, not null
+     */
+    private ZoneOffsetTransition findHistoricTransition(int index) {
+        ZoneOffsetTransition[] transitions = historicTransitions;
+        if (transitions == null) {
+            transitions = new ZoneOffsetTransition[savingsInstantTransitions.length];
+            historicTransitions = transitions;
+        }
+        ZoneOffsetTransition trans = transitions[index];
+        if (trans == null) {
+            trans = new ZoneOffsetTransition(savingsInstantTransitions[index], wallOffsets[index], wallOffsets[index + 1]);
+            transitions[index] = trans;
+        }
+        return trans;
+    }
+
     /**
      * Finds the offset info for a local date-time and transition.
      *
@@ -419,19 +470,44 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
      * @return the transition array, not null
      */
     private ZoneOffsetTransition[] findTransitionArray(int year) {
+        //GWT specific: an array lookup avoids boxing the year for the common years
+        if (year >= FIRST_CACHED_YEAR && year < LAST_CACHED_YEAR) {
+            ZoneOffsetTransition[][] years = lastRulesYears;
+            if (years == null) {
+                years = new ZoneOffsetTransition[LAST_CACHED_YEAR - FIRST_CACHED_YEAR][];
+                lastRulesYears = years;
+            }
+            ZoneOffsetTransition[] transArray = years[year - FIRST_CACHED_YEAR];
+            if (transArray == null) {
+                transArray = createTransitionArray(year);
+                years[year - FIRST_CACHED_YEAR] = transArray;
+            }
+            return transArray;
+        }
         Integer yearObj = year;  // should use Year class, but this saves a class load
         ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
         if (transArray != null) {
             return transArray;
         }
+        transArray = createTransitionArray(year);
+        if (year < LAST_CACHED_YEAR) {
+            lastRulesCache.putIfAbsent(yearObj, transArray);
+        }
+        return transArray;
+    }
+
+    /**
+     * Creates the transitions of the last rules for a year.
+     *
+     * @param year  the year
+     * @return the transition array, not null
+     */
+    private ZoneOffsetTransition[] createTransitionArray(int year) {
         ZoneOffsetTransitionRule[] ruleArray = lastRules;
-        transArray  = new ZoneOffsetTransition[ruleArray.length];
+        ZoneOffsetTransition[] transArray  = new ZoneOffsetTransition[ruleArray.length];
         for (int i = 0; i < ruleArray.length; i++) {
             transArray[i] = ruleArray[i].createTransition(year);
         }
-        if (year < LAST_CACHED_YEAR) {
-            lastRulesCache.putIfAbsent(yearObj, transArray);
-        }
         return transArray;
     }
 
@@ -244,6 +244,10 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 			if (rule == null) {
 				ArrayBuffer arrayBuffer = encodeRuleData[index];
 				rule = (ZoneRules) Ser.read(ByteBuffer.wrapArrayBuffer(arrayBuffer));
+				// GWT specific: zones that never change share the cheaper fixed rules
+				if (rule instanceof StandardZoneRules) {
+					rule = ((StandardZoneRules) rule).simplify();
+				}
 				ruleData[index] = rule;
 				encodeRuleData[index] = null;
 			}
@@ -32,6 +32,7 @@
 package java.time.zone;
 
 import java.io.Serializable;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -135,6 +136,39 @@ public abstract class ZoneRules {
      */
     public abstract ZoneOffset getOffset(Instant instant);
 
+    /**
+     * Gets the offset applicable at the specified epoch-second in these rules.
+     * <p>
+     * This is equivalent to {@link #getOffset(Instant)} but avoids creating an
+     * {@code Instant} when the epoch-second is already known.
+     * <p>
+     * NOTE: This method does not exist in Java SE 8.
+     *
+     * @param epochSecond  the epoch-second to find the offset for, from 1970-01-01T00:00:00Z
+     * @return the offset, not null
+     */
+    public ZoneOffset getOffsetAtEpochSecond(long epochSecond) {
+        return getOffset(Instant.ofEpochSecond(epochSecond));
+    }
+
+    /**
+     * Gets the offset applicable at the specified epoch-millisecond in these rules.
+     * <p>
+     * This is equivalent to {@link #getOffset(Instant)} for a JavaScript time value,
+     * such as {@code Date.getTime()}, and avoids creating an {@code Instant}.
+     *
+     * @param epochMilli  the epoch-millisecond to find the offset for, from 1970-01-01T00:00:00Z
+     * @return the offset, not null
+     * @throws DateTimeException if the value is NaN
+     */
+    public ZoneOffset getOffsetAtEpochMilli(double epochMilli) {
+        if (Double.isNaN(epochMilli)) {
+            throw new DateTimeException("Invalid epoch-millisecond: NaN");
+        }
+        // transitions are on whole seconds, so the rounding of the division cannot matter
+        return getOffsetAtEpochSecond((long) Math.floor(epochMilli / 1000));
+    }
+
     /**
      * Gets a suitable offset for the specified local date-time in these rules.
      * <p>
@@ -165,6 +199,36 @@ public abstract class ZoneRules {
      */
     public abstract ZoneOffset getOffset(LocalDateTime localDateTime);
 
+    /**
+     * Resolves the specified local date-time to its offset information in these rules.
+     * <p>
+     * The result is one of exactly two types, which callers must distinguish
+     * with {@code instanceof}:
+     * <p><ul>
+     * <li>{@link ZoneOffset} in the Normal case, the single valid offset as returned
+     *  by {@link #getOffset(LocalDateTime)}.</li>
+     * <li>{@link ZoneOffsetTransition} in the Gap or Overlap case, the transition as
+     *  returned by {@link #getTransition(LocalDateTime)}.</li>
+     * </ul><p>
+     * This implementation queries {@link #getTransition(LocalDateTime)} and then
+     * {@link #getOffset(LocalDateTime)}. The standard rules override it with a single
+     * lookup, which creates no objects in the Normal case and caches the transitions.
+     * <p>
+     * NOTE: This method does not exist in Java SE 8.
+     *
+     * @param localDateTime  the local date-time to query, not null, but null
+     *  may be ignored if the rules have a single offset for all instants
+     * @return the {@code ZoneOffset}, or the {@code ZoneOffsetTransition} in a gap
+     *  or overlap, not null
+     */
+    public Object getOffsetInfo(LocalDateTime localDateTime) {
+        ZoneOffsetTransition trans = getTransition(localDateTime);
+        if (trans != null) {
+            return trans;
+        }
+        return getOffset(localDateTime);
+    }
+
     /**
      * Gets the offset applicable at the specified local date-time in these rules.
      * <p>
@@ -428,11 +492,21 @@ public abstract class ZoneRules {
             return offset;
         }
 
+        @Override
+        public ZoneOffset getOffsetAtEpochSecond(long epochSecond) {
+            return offset;
+        }
+
         @Override
         public ZoneOffset getOffset(LocalDateTime localDateTime) {
             return offset;
         }
 
+        @Override
+        public Object getOffsetInfo(LocalDateTime localDateTime) {
+            return offset;
+        }
+
         @Override
         public List<ZoneOffset> getValidOffsets(LocalDateTime localDateTime) {
             return Collections.singletonList(offset);
@@ -0,0 +1,41 @@
+package org.jresearch.threetenbp.gwt.client;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class GwtCldrTest extends GWTTestCase {
+
+	/**
+	 * Must refer to a valid module that sources this class.
+	 */
+	@Override
+	public String getModuleName() {
+		return "org.jresearch.threetenbp.gwt.threetenbpGwtCldrDe";
+	}
+
+	@Test
+	public void testCldrDisplayEras_short() {
+		final String[] result = new CldrLocaleDataProvider().displayEras("short", "de");
+		assertEquals(2, result.length);
+		assertEquals("v. Chr.", result[0]);
+		assertEquals("n. Chr.", result[1]);
+	}
+
+	@Test
+	public void testCldrDisplayEras_narrow() {
+		final String[] cldr = new CldrLocaleDataProvider().displayEras("narrow", "de");
+		final String[] intl = new IntlLocaleDataProvider().displayEras("narrow", "de");
+		assertTrue(Arrays.toString(cldr) + " != " + Arrays.toString(intl), Arrays.equals(intl, cldr));
+	}
+
+	@Test
+	public void testCldrDisplayAmpm_narrow() {
+		final String[] cldr = new CldrLocaleDataProvider().displayAmpm("narrow", "de");
+		final String[] intl = new IntlLocaleDataProvider().displayAmpm("narrow", "de");
+		assertTrue(Arrays.toString(cldr) + " != " + Arrays.toString(intl), Arrays.equals(intl, cldr));
+	}
+
+}
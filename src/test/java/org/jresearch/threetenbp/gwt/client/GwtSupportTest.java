@@ -1,5 +1,9 @@
 package org.jresearch.threetenbp.gwt.client;
 
+import java.time.DayOfWeek;
+import java.time.temporal.WeekFields;
+import java.util.Locale;
+
 import org.gwtproject.typedarrays.shared.Uint8Array;
 import org.junit.Test;
 
@@ -18,10 +22,24 @@ public class GwtSupportTest extends GWTTestCase {
 
 	@Test
 	public void testGetTimestamp() {
-		final float timestamp = Support.getTimestamp();
+		final double timestamp = Support.getTimestamp();
 		assertTrue(timestamp > 0);
 	}
 
+	@Test
+	public void testGetTimestamp_currentTimeMillis() {
+		// a float would round the current epoch milliseconds by up to a minute
+		final double timestamp = Support.getTimestamp();
+		assertTrue(Math.abs(timestamp - System.currentTimeMillis()) < 1000);
+	}
+
+	@Test
+	public void testGetTicks() {
+		final double start = Support.getTicks();
+		Support.sleep(5);
+		assertTrue(Support.getTicks() - start >= 5);
+	}
+
 	@Test
 	public void testGetTimezove() {
 		final String timezone = Support.getTimezone();
@@ -52,4 +70,44 @@ public class GwtSupportTest extends GWTTestCase {
 		assertTrue("MEZ".equals(result) || timeZone.equals(result));
 	}
 
+	@Test
+	public void testCldrDisplayWeekdays() {
+		final String[] result = new CldrLocaleDataProvider().displayWeekdays("long", false, "");
+		assertEquals(7, result.length);
+		assertEquals("Monday", result[0]);
+		assertEquals("Sunday", result[6]);
+	}
+
+	@Test
+	public void testWeekInfo() {
+		assertWeekInfo(Support.weekInfo("DE"), 1, 4);
+		assertWeekInfo(Support.weekInfo("US"), 7, 1);
+		assertWeekInfo(Support.weekInfo("EG"), 6, 1);
+		// no region resolves to the likely region US
+		assertWeekInfo(Support.weekInfo(""), 7, 1);
+	}
+
+	@Test
+	public void testWeekFieldsOfLocale() {
+		WeekFields rules = WeekFields.of(Locale.GERMANY);
+		assertEquals(DayOfWeek.MONDAY, rules.getFirstDayOfWeek());
+		assertEquals(4, rules.getMinimalDaysInFirstWeek());
+		assertSame(rules, WeekFields.of(new Locale("fr", "DE")));
+		assertSame(WeekFields.of(DayOfWeek.SUNDAY, 1), WeekFields.of(Locale.US));
+	}
+
+	private static void assertWeekInfo(int[] weekInfo, int firstDay, int minimalDays) {
+		assertEquals(2, weekInfo.length);
+		assertEquals(firstDay, weekInfo[0]);
+		assertEquals(minimalDays, weekInfo[1]);
+	}
+
+	@Test
+	public void testCldrDisplayNumber() {
+		final DecimalProperty result = new CldrLocaleDataProvider().displayNumber("");
+		assertEquals("0", result.zeroDigit);
+		assertEquals("-", result.negativeSign);
+		assertEquals(".", result.decimalSeparator);
+	}
+
 }
@@ -4,6 +4,7 @@ import org.jresearch.threetenbp.gwt.client.chrono.TestChronoLocalDate;
 import org.jresearch.threetenbp.gwt.client.chrono.TestChronoLocalDateTime;
 import org.jresearch.threetenbp.gwt.client.chrono.TestChronoZonedDateTime;
 import org.jresearch.threetenbp.gwt.client.chrono.TestHijrahChronology;
+import org.jresearch.threetenbp.gwt.client.chrono.TestHijrahDeviation;
 import org.jresearch.threetenbp.gwt.client.chrono.TestIsoChronology;
 import org.jresearch.threetenbp.gwt.client.chrono.TestJapaneseChronology;
 import org.jresearch.threetenbp.gwt.client.chrono.TestMinguoChronology;
@@ -59,14 +60,20 @@ public class GwtTreetenBpSuite {
 		// $JUnit-BEGIN$
 		suite.addTestSuite(GwtTest.class);
 		suite.addTestSuite(GwtSupportTest.class);
+		suite.addTestSuite(GwtCldrTest.class);
 		suite.addTestSuite(TestClock.class);
 		suite.addTestSuite(TestClock_Fixed.class);
+		suite.addTestSuite(TestClock_HighResolution.class);
 		suite.addTestSuite(TestClock_Offset.class);
 		suite.addTestSuite(TestClock_System.class);
 		suite.addTestSuite(TestClock_Tick.class);
 		suite.addTestSuite(TestDayOfWeek.class);
 		suite.addTestSuite(TestLocalDate.class);
 		suite.addTestSuite(TestLocalTime.class);
+		suite.addTestSuite(TestPackedKeys.class);
+		suite.addTestSuite(TestColumns.class);
+		suite.addTestSuite(TestAdjusterChain.class);
+		suite.addTestSuite(TestRecurrence.class);
 		suite.addTestSuite(TestDateTimes_implementation.class);
 		suite.addTestSuite(TestDateTimeUtils.class);
 		suite.addTestSuite(TestDuration.class);
@@ -84,6 +91,7 @@ public class GwtTreetenBpSuite {
 		suite.addTestSuite(TestChronoLocalDateTime.class);
 		suite.addTestSuite(TestChronoZonedDateTime.class);
 		suite.addTestSuite(TestHijrahChronology.class);
+		suite.addTestSuite(TestHijrahDeviation.class);
 		suite.addTestSuite(TestIsoChronology.class);
 		suite.addTestSuite(TestJapaneseChronology.class);
 		suite.addTestSuite(TestMinguoChronology.class);
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jresearch.threetenbp.gwt.client;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.WEDNESDAY;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Test adjuster chains.
+ */
+//@Test
+public class TestAdjusterChain extends AbstractTest {
+
+	// -----------------------------------------------------------------------
+	public void test_scheduling() {
+		AdjusterChain chain = AdjusterChain.builder().firstDayOfNextMonth().nextOrSame(MONDAY).plusHours(9).build();
+		LocalDateTime dateTime = LocalDateTime.of(2019, 4, 17, 0, 0);
+		assertEquals(dateTime.with(chain), LocalDateTime.of(2019, 5, 6, 9, 0));
+		assertEquals(dateTime.with(chain), dateTime.with(TemporalAdjusters.firstDayOfNextMonth())
+				.with(TemporalAdjusters.nextOrSame(MONDAY)).plusHours(9));
+		assertEquals(chain.size(), 3);
+	}
+
+	// @DataProvider(name="chains")
+	Object[][] data_chains() {
+		return new Object[][] {
+				{ AdjusterChain.builder().lastDayOfMonth().previousOrSame(FRIDAY).build(),
+						LocalDate.of(2012, 2, 10), LocalDate.of(2012, 2, 24) },
+				{ AdjusterChain.builder().lastInMonth(FRIDAY).plusWeeks(1).build(),
+						LocalDate.of(2012, 2, 10), LocalDate.of(2012, 3, 2) },
+				{ AdjusterChain.builder().dayOfWeekInMonth(5, WEDNESDAY).build(),
+						LocalDate.of(2011, 12, 15), LocalDate.of(2012, 1, 4) },
+				{ AdjusterChain.builder().firstDayOfYear().plusMonths(1).lastDayOfMonth().build(),
+						LocalDate.of(2012, 7, 10), LocalDate.of(2012, 2, 29) },
+				{ AdjusterChain.builder().lastDayOfYear().next(MONDAY).build(),
+						LocalDate.of(2012, 7, 10), LocalDate.of(2013, 1, 7) },
+				{ AdjusterChain.builder().firstDayOfNextYear().previous(MONDAY).build(),
+						LocalDate.of(2012, 7, 10), LocalDate.of(2012, 12, 31) },
+				{ AdjusterChain.builder().plus(Period.of(1, 1, 1)).plusYears(-1).build(),
+						LocalDate.of(2012, 1, 31), LocalDate.of(2012, 3, 1) },
+				{ AdjusterChain.builder().with(TemporalAdjusters.firstInMonth(MONDAY)).plusDays(2).build(),
+						LocalDate.of(2012, 7, 10), LocalDate.of(2012, 7, 4) },
+				{ AdjusterChain.builder().plusHours(25).with(LocalTime.of(8, 30)).plus(Duration.ofMinutes(-45)).build(),
+						LocalDateTime.of(2012, 1, 1, 23, 0), LocalDateTime.of(2012, 1, 3, 7, 45) },
+				{ AdjusterChain.builder().plus(3, ChronoUnit.DECADES).plus(-1, ChronoUnit.MILLIS).build(),
+						LocalDateTime.of(2000, 1, 1, 0, 0), LocalDateTime.of(2029, 12, 31, 23, 59, 59, 999_000_000) },
+				{ AdjusterChain.builder().plus(2, ChronoUnit.HALF_DAYS).build(),
+						LocalDateTime.of(2000, 1, 1, 6, 0), LocalDateTime.of(2000, 1, 2, 6, 0) },
+				{ AdjusterChain.builder().firstDayOfNextMonth().plusMinutes(90).build(),
+						OffsetDateTime.of(2012, 7, 10, 12, 0, 0, 0, ZoneOffset.ofHours(2)),
+						OffsetDateTime.of(2012, 8, 1, 13, 30, 0, 0, ZoneOffset.ofHours(2)) },
+				{ AdjusterChain.builder().firstDayOfNextMonth().plusMinutes(90).build(),
+						ZonedDateTime.of(2012, 7, 10, 12, 0, 0, 0, ZoneOffset.UTC),
+						ZonedDateTime.of(2012, 8, 1, 13, 30, 0, 0, ZoneOffset.UTC) }, };
+	}
+
+	public void test_chains() {
+		Object[][] data = data_chains();
+		for (int i = 0; i < data.length; i++) {
+			Object[] objects = data[i];
+			test_chains((AdjusterChain) objects[0], (Temporal) objects[1], (Temporal) objects[2]);
+		}
+	}
+
+	public void test_chains(AdjusterChain chain, Temporal input, Temporal expected) {
+		assertEquals(input.with(chain), expected);
+	}
+
+	public void test_with_chain() {
+		AdjusterChain first = AdjusterChain.builder().firstDayOfNextMonth().build();
+		AdjusterChain chain = AdjusterChain.builder().with(first).with(first).lastDayOfMonth().build();
+		assertEquals(chain.size(), 3);
+		assertEquals(LocalDate.of(2012, 12, 15).with(chain), LocalDate.of(2013, 2, 28));
+	}
+
+	public void test_timeOnDate() {
+		AdjusterChain chain = AdjusterChain.builder().plusHours(1).build();
+		try {
+			LocalDate.of(2012, 7, 10).with(chain);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
+	public void test_outOfRange() {
+		AdjusterChain chain = AdjusterChain.builder().plusYears(1).plusYears(-1).build();
+		try {
+			LocalDate.MAX.with(chain);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
+}
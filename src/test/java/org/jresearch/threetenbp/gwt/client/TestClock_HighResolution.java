@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+/**
+ * Test high resolution clock and ticker.
+ */
+//@Test
+public class TestClock_HighResolution extends AbstractTest {
+
+	// -----------------------------------------------------------------------
+	public void test_instant() {
+		Clock clock = HighResolutionClock.systemUTC();
+		assertEquals(clock.getZone(), ZoneOffset.UTC);
+		Instant instant = clock.instant();
+		long systemMillis = System.currentTimeMillis();
+		assertTrue(Math.abs(systemMillis - instant.toEpochMilli()) < 1000);
+	}
+
+	public void test_millis() {
+		Clock clock = HighResolutionClock.systemUTC();
+		long millis = clock.millis();
+		long systemMillis = System.currentTimeMillis();
+		assertTrue(Math.abs(systemMillis - millis) < 1000);
+	}
+
+	public void test_withZone() {
+		ZoneOffset offset = ZoneOffset.ofHours(2);
+		Clock test = HighResolutionClock.systemUTC().withZone(offset);
+		assertEquals(test.getZone(), offset);
+		assertEquals(test, HighResolutionClock.system(offset));
+		assertSame(HighResolutionClock.systemUTC().withZone(ZoneOffset.UTC), HighResolutionClock.systemUTC());
+		assertFalse(test.equals(HighResolutionClock.systemUTC()));
+		assertFalse(test.equals(Clock.system(offset)));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void test_system_nullZoneId() {
+		try {
+			HighResolutionClock.system((ZoneId) null);
+			fail("Missing exception");
+		} catch (NullPointerException e) {
+			// expected
+		}
+	}
+
+	// -----------------------------------------------------------------------
+	public void test_ticker_between() {
+		assertEquals(Ticker.between(10.5, 12.25), Duration.ofNanos(1_750_000));
+		assertEquals(Ticker.between(12.25, 10.5), Duration.ofNanos(-1_750_000));
+	}
+
+	public void test_ticker_elapsed() {
+		double start = Ticker.read();
+		Support.sleep(5);
+		Duration elapsed = Ticker.elapsed(start);
+		assertTrue(elapsed.compareTo(Duration.ofMillis(5)) >= 0);
+		assertTrue(Ticker.read() >= start);
+	}
+
+	public void test_toString() {
+		assertEquals(HighResolutionClock.systemUTC().toString(), "HighResolutionClock[Z]");
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test date and instant columns.
+ */
+//@Test
+public class TestColumns extends AbstractTest {
+
+	private static final List<LocalDate> DATES = Arrays.asList(LocalDate.of(2008, 6, 30), LocalDate.of(2007, 1, 1),
+			LocalDate.of(2008, 6, 30), LocalDate.of(1969, 12, 31), LocalDate.of(2010, 3, 4));
+
+	// -----------------------------------------------------------------------
+	public void test_dates_of() {
+		LocalDateColumn column = LocalDateColumn.of(DATES);
+		assertEquals(column.size(), 5);
+		assertEquals(column.get(0), LocalDate.of(2008, 6, 30));
+		assertEquals(column.getEpochDay(3), -1);
+		assertEquals(column.asList(), DATES);
+	}
+
+	public void test_dates_of_outOfRange() {
+		try {
+			LocalDateColumn.of(Arrays.asList(LocalDate.MAX));
+			fail("Expected DateTimeException");
+		} catch (DateTimeException ex) {
+			// expected
+		}
+	}
+
+	public void test_dates_ofEpochDays_copies() {
+		int[] epochDays = { 1, 2 };
+		LocalDateColumn column = LocalDateColumn.ofEpochDays(epochDays);
+		epochDays[0] = 9;
+		assertEquals(column.getEpochDay(0), 1);
+	}
+
+	public void test_dates_view() {
+		LocalDateColumn view = LocalDateColumn.of(DATES).view(1, 4);
+		assertEquals(view.size(), 3);
+		assertEquals(view.get(0), LocalDate.of(2007, 1, 1));
+		assertTrue(Arrays.equals(view.toEpochDays(), new int[] { 13514, 14060, -1 }));
+		try {
+			view.get(3);
+			fail("Expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException ex) {
+			// expected
+		}
+	}
+
+	public void test_dates_sorted() {
+		LocalDateColumn column = LocalDateColumn.of(DATES);
+		assertTrue(Arrays.equals(column.sortedOrder(), new int[] { 3, 1, 0, 2, 4 }));
+		LocalDateColumn sorted = column.sorted();
+		assertEquals(sorted.get(0), LocalDate.of(1969, 12, 31));
+		assertEquals(sorted.get(4), LocalDate.of(2010, 3, 4));
+		assertEquals(column.get(0), LocalDate.of(2008, 6, 30));
+	}
+
+	public void test_dates_range() {
+		LocalDateColumn sorted = LocalDateColumn.of(DATES).sorted();
+		assertEquals(sorted.lowerBound(LocalDate.of(2008, 6, 30)), 2);
+		assertEquals(sorted.upperBound(LocalDate.of(2008, 6, 30)), 4);
+		LocalDateColumn range = sorted.range(LocalDate.of(2007, 1, 1), LocalDate.of(2010, 3, 4));
+		assertEquals(range.asList(), Arrays.asList(LocalDate.of(2007, 1, 1), LocalDate.of(2008, 6, 30),
+				LocalDate.of(2008, 6, 30)));
+		assertEquals(range.range(LocalDate.of(2008, 1, 1), LocalDate.of(2009, 1, 1)).size(), 2);
+		assertEquals(sorted.range(LocalDate.of(2011, 1, 1), LocalDate.of(2000, 1, 1)).size(), 0);
+	}
+
+	public void test_dates_format() {
+		String[] text = LocalDateColumn.of(DATES).view(0, 2).format(DateTimeFormatter.ISO_LOCAL_DATE);
+		assertTrue(Arrays.equals(text, new String[] { "2008-06-30", "2007-01-01" }));
+	}
+
+	// -----------------------------------------------------------------------
+	public void test_instants_of() {
+		InstantColumn column = InstantColumn.of(Arrays.asList(Instant.ofEpochSecond(2, 5_500_000), Instant.ofEpochMilli(-1)));
+		assertEquals(column.size(), 2);
+		assertEquals(column.getEpochMilli(0), 2005d);
+		assertEquals(column.get(0), Instant.ofEpochMilli(2005));
+		assertEquals(column.get(1), Instant.ofEpochMilli(-1));
+	}
+
+	public void test_instants_range() {
+		InstantColumn sorted = InstantColumn.ofEpochMillis(new double[] { 30, 10, 20, 20 }).sorted();
+		assertTrue(Arrays.equals(sorted.toEpochMillis(), new double[] { 10, 20, 20, 30 }));
+		assertEquals(sorted.lowerBound(Instant.ofEpochMilli(20)), 1);
+		assertEquals(sorted.upperBound(Instant.ofEpochMilli(20)), 3);
+		assertEquals(sorted.lowerBound(Instant.ofEpochSecond(0, 20_000_001)), 3);
+		assertEquals(sorted.range(Instant.ofEpochMilli(15), Instant.ofEpochMilli(30)).size(), 2);
+	}
+
+	public void test_instants_sortedOrder() {
+		InstantColumn column = InstantColumn.ofEpochMillis(new double[] { 30, 10, 20, 10 });
+		assertTrue(Arrays.equals(column.sortedOrder(), new int[] { 1, 3, 2, 0 }));
+	}
+
+	public void test_instants_format() {
+		String[] text = InstantColumn.ofEpochMillis(new double[] { 0, 1500 }).format(DateTimeFormatter.ISO_INSTANT);
+		assertTrue(Arrays.equals(text, new String[] { "1970-01-01T00:00:00Z", "1970-01-01T00:00:01.500Z" }));
+	}
+
+}
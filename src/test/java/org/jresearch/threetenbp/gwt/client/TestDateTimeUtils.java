@@ -36,8 +36,12 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Date;
 
+import elemental2.core.JsDate;
+
 /**
  * Test.
  */
@@ -58,6 +62,32 @@ public class TestDateTimeUtils extends AbstractTest {
         assertEquals(DateTimeUtils.toDate(instant), new Date(123456));
     }
 
+    //-----------------------------------------------------------------------
+    public void test_toInstant_JsDate() {
+        JsDate date = new JsDate(123456.0);
+        assertEquals(DateTimeUtils.toInstant(date), Instant.ofEpochMilli(123456));
+    }
+
+    public void test_toJsDate_Instant() {
+        Instant instant = Instant.ofEpochSecond(123, 456789000);
+        assertEquals(DateTimeUtils.toJsDate(instant).getTime(), 123456.0, 0.0);
+    }
+
+    public void test_toJsDate_Instant_outOfRange() {
+        try {
+            DateTimeUtils.toJsDate(Instant.ofEpochMilli(8_640_000_000_000_001L));
+            fail("Missing exception");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    public void test_toZDT_JsDate() {
+        JsDate date = new JsDate(123456.0);
+        assertEquals(DateTimeUtils.toZonedDateTime(date, ZoneOffset.ofHours(2)),
+                ZonedDateTime.of(1970, 1, 1, 2, 2, 3, 456_000_000, ZoneOffset.ofHours(2)));
+    }
+
     //-----------------------------------------------------------------------
     //GWT
 //    public void test_toInstant_Calendar() {
@@ -619,6 +619,24 @@ public class TestDuration extends AbstractTest {
 		Duration.parse(text);
 	}
 
+	@Test
+	public void test_factory_parse_wholeText() {
+		String[] texts = { "xPT1S", "PT1Sx", "PT1S ", "PT1S2M", "P1DT" };
+		for (String text : texts) {
+			try {
+				Duration.parse(text);
+				fail("Missing exception: " + text);
+			} catch (DateTimeParseException e) {
+				assertEquals(e.getErrorIndex(), 0);
+			}
+		}
+	}
+
+	@Test
+	public void test_factory_parse_minValue() {
+		assertEquals(Duration.parse("PT-9223372036854775808S"), Duration.ofSeconds(Long.MIN_VALUE));
+	}
+
 	@Test(expected = DateTimeParseException.class)
 	public void test_factory_parse_tooBig() {
 		try {
@@ -1616,6 +1634,18 @@ public class TestDuration extends AbstractTest {
 		assertEquals(test.multipliedBy(Long.MIN_VALUE), Duration.ofSeconds(Long.MIN_VALUE));
 	}
 
+	@Test
+	public void test_multipliedBy_intermediateOverflow() {
+		Duration test = Duration.ofSeconds(-1, 500_000_000);
+		assertEquals(test.multipliedBy(Long.MIN_VALUE), Duration.ofSeconds(4611686018427387904L));
+	}
+
+	@Test
+	public void test_multipliedBy_smallBoundary() {
+		Duration test = Duration.ofSeconds(2147483647, 999_999_999);
+		assertEquals(test.multipliedBy(2097151), Duration.ofSeconds(4503597479886847L, 997902849));
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void test_multipliedBy_tooBig() {
 		try {
@@ -1725,6 +1755,18 @@ public class TestDuration extends AbstractTest {
 		assertEquals(test.dividedBy(Long.MAX_VALUE), Duration.ofSeconds(1));
 	}
 
+	@Test
+	public void test_dividedBy_truncation() {
+		assertEquals(Duration.ofSeconds(-7, 1).dividedBy(-3), Duration.ofSeconds(2, 333333333));
+		assertEquals(Duration.ofSeconds(-7, 1).dividedBy(2097151), Duration.ofSeconds(-1, 999996663));
+	}
+
+	@Test
+	public void test_dividedBy_large() {
+		Duration test = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+		assertEquals(test.dividedBy(10_000_000_000L), Duration.ofSeconds(922337203, 685477580));
+	}
+
 	// -----------------------------------------------------------------------
 	// negated()
 	// -----------------------------------------------------------------------
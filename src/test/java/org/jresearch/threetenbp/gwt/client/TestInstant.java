@@ -282,6 +282,37 @@ public class TestInstant extends AbstractDateTimeTest {
 		assertEquals(t.toEpochMilli(), millis);
 	}
 
+	@Test
+	public void test_factory_millis_double() {
+		assertEquals(Instant.ofEpochMilliDouble(0d), Instant.EPOCH);
+		assertEquals(Instant.ofEpochMilliDouble(1700000000123d), Instant.ofEpochMilli(1700000000123L));
+		assertEquals(Instant.ofEpochMilliDouble(-1001d), Instant.ofEpochMilli(-1001L));
+		assertEquals(Instant.ofEpochMilliDouble(1.5d), Instant.ofEpochSecond(0, 1500000));
+		assertEquals(Instant.ofEpochMilliDouble(-1.5d), Instant.ofEpochSecond(-1, 998500000));
+		assertEquals(Instant.ofEpochMilliDouble(9007199254740991d), Instant.ofEpochMilli(9007199254740991L));
+		assertEquals(Instant.ofEpochMilliDouble(-1e16d), Instant.ofEpochMilli(-10000000000000000L));
+	}
+
+	@Test(expected = DateTimeException.class)
+	public void test_factory_millis_double_nan() {
+		try {
+			Instant.ofEpochMilliDouble(Double.NaN);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = DateTimeException.class)
+	public void test_factory_millis_double_tooBig() {
+		try {
+			Instant.ofEpochMilliDouble(1e300d);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// parse(String)
 	// -----------------------------------------------------------------------
@@ -1335,6 +1366,16 @@ public class TestInstant extends AbstractDateTimeTest {
 		assertEquals(Instant.ofEpochSecond(0L, -1000001).toEpochMilli(), -2L);
 	}
 
+	@Test
+	public void test_toEpochMilliDouble() {
+		assertEquals(Instant.ofEpochSecond(1L, 1000000).toEpochMilliDouble(), 1001d, 0d);
+		assertEquals(Instant.ofEpochSecond(1L, 567).toEpochMilliDouble(), 1000d, 0d);
+		assertEquals(Instant.ofEpochSecond(0L, -1).toEpochMilliDouble(), -1d, 0d);
+		assertEquals(Instant.ofEpochSecond(0L, -1000001).toEpochMilliDouble(), -2d, 0d);
+		assertEquals(Instant.ofEpochMilli(9007199254740991L).toEpochMilliDouble(), 9007199254740991d, 0d);
+		assertEquals(Instant.ofEpochMilli(-9007199254740991L).toEpochMilliDouble(), -9007199254740991d, 0d);
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void test_toEpochMilli_tooBig() {
 		try {
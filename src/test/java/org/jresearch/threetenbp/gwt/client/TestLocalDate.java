@@ -59,6 +59,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
+import java.time.Period;
 import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -78,6 +79,7 @@ import java.time.temporal.TemporalUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jresearch.threetenbp.gwt.client.temporal.MockFieldNoValue;
 import org.junit.Test;
@@ -561,6 +563,14 @@ public class TestLocalDate extends AbstractDateTimeTest {
 //		}
 //	}
 
+	@Test
+	public void test_factory_ofEpochDay_intRangeBoundary() {
+		assertEquals(LocalDate.ofEpochDay(-365000000L), LocalDate.of(-997367, 12, 11));
+		assertEquals(LocalDate.ofEpochDay(-364999999L), LocalDate.of(-997367, 12, 12));
+		assertEquals(LocalDate.ofEpochDay(364999999L), LocalDate.of(1001306, 1, 21));
+		assertEquals(LocalDate.ofEpochDay(365000000L), LocalDate.of(1001306, 1, 22));
+	}
+
 	@Test(expected = DateTimeException.class)
 	public void test_factory_ofEpochDay_aboveMax() {
 		try {
@@ -2440,6 +2450,156 @@ public class TestLocalDate extends AbstractDateTimeTest {
 		assertEquals(LocalDate.of(-1, 12, 31).toEpochDay(), -678942 - 40587);
 	}
 
+	@Test
+	public void test_toEpochDay_intRangeBoundary() {
+		assertEquals(LocalDate.of(-1000000, 12, 31).toEpochDay(), -365961663L);
+		assertEquals(LocalDate.of(-999999, 1, 1).toEpochDay(), -365961662L);
+		assertEquals(LocalDate.of(999999, 12, 31).toEpochDay(), 364522971L);
+		assertEquals(LocalDate.of(1000000, 1, 1).toEpochDay(), 364522972L);
+	}
+
+	// -----------------------------------------------------------------------
+	// toEpochDayInt()
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_toEpochDayInt() {
+		assertEquals(LocalDate.of(1970, 1, 1).toEpochDayInt(), 0);
+		assertEquals(LocalDate.of(1995, 9, 27).toEpochDayInt(), 49987 - 40587);
+		assertEquals(LocalDate.of(-999999, 1, 1).toEpochDayInt(), -365961662);
+		assertEquals(LocalDate.of(999999, 12, 31).toEpochDayInt(), 364522971);
+	}
+
+	@Test
+	public void test_ofEpochDayInt() {
+		assertEquals(LocalDate.ofEpochDayInt(0), LocalDate.of(1970, 1, 1));
+		assertEquals(LocalDate.ofEpochDayInt(49987 - 40587), LocalDate.of(1995, 9, 27));
+		assertEquals(LocalDate.ofEpochDayInt(-365961662), LocalDate.of(-999999, 1, 1));
+		assertEquals(LocalDate.ofEpochDayInt(364522971), LocalDate.of(999999, 12, 31));
+		// beyond the int arithmetic
+		assertEquals(LocalDate.ofEpochDayInt(Integer.MAX_VALUE), LocalDate.ofEpochDay(Integer.MAX_VALUE));
+		assertEquals(LocalDate.ofEpochDayInt(Integer.MIN_VALUE), LocalDate.ofEpochDay(Integer.MIN_VALUE));
+	}
+
+	@Test
+	public void test_toEpochDayInt_outsideRange() {
+		try {
+			LocalDate.of(1000000, 1, 1).toEpochDayInt();
+			fail("Missing exception");
+		} catch (ArithmeticException e) {
+			// expected
+		}
+		try {
+			LocalDate.of(-1000000, 12, 31).toEpochDayInt();
+			fail("Missing exception");
+		} catch (ArithmeticException e) {
+			// expected
+		}
+	}
+
+	// -----------------------------------------------------------------------
+	// toPackedKey()
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_toPackedKey() {
+		assertEquals(LocalDate.of(1970, 1, 1).toPackedKey(), 0d, 0d);
+		assertEquals(LocalDate.of(1969, 12, 31).toPackedKey(), -1d, 0d);
+		assertEquals(LocalDate.ofPackedKey(LocalDate.MAX.toPackedKey()), LocalDate.MAX);
+		assertEquals(LocalDate.ofPackedKey(LocalDate.MIN.toPackedKey()), LocalDate.MIN);
+		assertTrue(LocalDate.of(2008, 6, 30).toPackedKey() < LocalDate.of(2008, 7, 1).toPackedKey());
+	}
+
+	@Test(expected = DateTimeException.class)
+	public void test_ofPackedKey_fraction() {
+		try {
+			LocalDate.ofPackedKey(0.5);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
+	// -----------------------------------------------------------------------
+	// datesUntil()
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_datesUntil() {
+		List<LocalDate> dates = LocalDate.of(2007, 12, 30).datesUntil(LocalDate.of(2008, 1, 2))
+				.collect(Collectors.toList());
+		assertEquals(dates, Arrays.asList(LocalDate.of(2007, 12, 30), LocalDate.of(2007, 12, 31),
+				LocalDate.of(2008, 1, 1)));
+		assertEquals(TEST_2007_07_15.datesUntil(TEST_2007_07_15).count(), 0);
+		assertEquals(LocalDate.of(2000, 1, 1).datesUntil(LocalDate.of(2010, 1, 1)).count(), 3653);
+	}
+
+	@Test
+	public void test_datesUntil_maxDate() {
+		assertEquals(LocalDate.MAX.minusDays(2).datesUntil(LocalDate.MAX).collect(Collectors.toList()),
+				Arrays.asList(LocalDate.MAX.minusDays(2), LocalDate.MAX.minusDays(1)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_datesUntil_endBefore() {
+		try {
+			TEST_2007_07_15.datesUntil(LocalDate.of(2007, 7, 14));
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void test_datesUntil_stepDays() {
+		assertEquals(LocalDate.of(2008, 2, 20).datesUntil(LocalDate.of(2008, 3, 20), Period.ofDays(5))
+				.collect(Collectors.toList()), Arrays.asList(LocalDate.of(2008, 2, 20), LocalDate.of(2008, 2, 25),
+						LocalDate.of(2008, 3, 1), LocalDate.of(2008, 3, 6), LocalDate.of(2008, 3, 11),
+						LocalDate.of(2008, 3, 16)));
+		assertEquals(LocalDate.of(2008, 3, 2).datesUntil(LocalDate.of(2008, 2, 27), Period.ofDays(-2))
+				.collect(Collectors.toList()), Arrays.asList(LocalDate.of(2008, 3, 2), LocalDate.of(2008, 2, 29)));
+		assertEquals(LocalDate.of(2008, 1, 1).datesUntil(LocalDate.of(2009, 1, 1), Period.ofDays(100))
+				.collect(Collectors.toList()), Arrays.asList(LocalDate.of(2008, 1, 1), LocalDate.of(2008, 4, 10),
+						LocalDate.of(2008, 7, 19), LocalDate.of(2008, 10, 27)));
+	}
+
+	@Test
+	public void test_datesUntil_stepMonths() {
+		assertEquals(LocalDate.of(2008, 1, 31).datesUntil(LocalDate.of(2008, 5, 1), Period.ofMonths(1))
+				.collect(Collectors.toList()), Arrays.asList(LocalDate.of(2008, 1, 31), LocalDate.of(2008, 2, 29),
+						LocalDate.of(2008, 3, 31), LocalDate.of(2008, 4, 30)));
+		assertEquals(LocalDate.of(2008, 1, 31).datesUntil(LocalDate.of(2008, 4, 1), Period.of(0, 1, 1))
+				.collect(Collectors.toList()), Arrays.asList(LocalDate.of(2008, 1, 31), LocalDate.of(2008, 3, 1)));
+		assertEquals(LocalDate.MAX.minusMonths(2).datesUntil(LocalDate.MAX, Period.ofMonths(1)).count(), 2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_datesUntil_zeroStep() {
+		try {
+			TEST_2007_07_15.datesUntil(LocalDate.of(2008, 7, 15), Period.ZERO);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_datesUntil_oppositeSignStep() {
+		try {
+			TEST_2007_07_15.datesUntil(LocalDate.of(2008, 7, 15), Period.of(0, 1, -1));
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_datesUntil_wrongDirection() {
+		try {
+			TEST_2007_07_15.datesUntil(LocalDate.of(2008, 7, 15), Period.ofDays(-1));
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// compareTo()
 	// -----------------------------------------------------------------------
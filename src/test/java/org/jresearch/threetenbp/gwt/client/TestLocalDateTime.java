@@ -76,6 +76,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
+import java.time.Period;
 import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -96,6 +97,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jresearch.threetenbp.gwt.client.temporal.MockFieldNoValue;
 import org.junit.Test;
@@ -1255,6 +1257,23 @@ public class TestLocalDateTime extends AbstractDateTimeTest {
 		}
 	}
 
+	@Test
+	public void test_factory_parse_nonCanonical() {
+		// not in the fixed layout, so parsed by the formatter
+		assertEquals(LocalDateTime.parse("2008-06-30t11:05"), LocalDateTime.of(2008, 6, 30, 11, 5));
+		assertEquals(LocalDateTime.parse("+12008-06-30T11:05:30.5"), LocalDateTime.of(12008, 6, 30, 11, 5, 30, 500_000_000));
+	}
+
+	@Test(expected = DateTimeParseException.class)
+	public void test_factory_parse_fractionTooLong() {
+		try {
+			LocalDateTime.parse("2008-06-30T11:05:30.1234567891");
+			fail("Missing exception");
+		} catch (DateTimeParseException e) {
+			// expected
+		}
+	}
+
 	@Test(expected = NullPointerException.class)
 	public void test_factory_parse_nullText() {
 		try {
@@ -3443,6 +3462,65 @@ public class TestLocalDateTime extends AbstractDateTimeTest {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	// toPackedKey()
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_toPackedKey() {
+		assertEquals(LocalDateTime.of(1970, 1, 1, 0, 0, 0, 1_999_999).toPackedKey(), 1d, 0d);
+		assertEquals(LocalDateTime.ofPackedKey(-1d), LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000));
+		LocalDateTime test = LocalDateTime.of(2008, 6, 30, 11, 30, 59, 500_000_000);
+		assertEquals(LocalDateTime.ofPackedKey(test.toPackedKey()), test);
+		assertTrue(test.toPackedKey() < test.plusNanos(1_000_000).toPackedKey());
+	}
+
+	@Test(expected = DateTimeException.class)
+	public void test_toPackedKey_outOfRange() {
+		try {
+			LocalDateTime.of(300000, 1, 1, 0, 0).toPackedKey();
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
+	// -----------------------------------------------------------------------
+	// dateTimesUntil()
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_dateTimesUntil() {
+		assertEquals(LocalDateTime.of(2007, 12, 31, 12, 0).dateTimesUntil(LocalDateTime.of(2008, 1, 2, 12, 0))
+				.collect(Collectors.toList()),
+				Arrays.asList(LocalDateTime.of(2007, 12, 31, 12, 0), LocalDateTime.of(2008, 1, 1, 12, 0)));
+		assertEquals(LocalDateTime.of(2007, 12, 31, 12, 0).dateTimesUntil(LocalDateTime.of(2008, 1, 2, 12, 1))
+				.count(), 3);
+		assertEquals(LocalDateTime.of(2007, 12, 31, 12, 0).dateTimesUntil(LocalDateTime.of(2008, 1, 2, 11, 59))
+				.count(), 2);
+		assertEquals(TEST_2007_07_15_12_30_40_987654321.dateTimesUntil(TEST_2007_07_15_12_30_40_987654321).count(),
+				0);
+	}
+
+	@Test
+	public void test_dateTimesUntil_step() {
+		assertEquals(LocalDateTime.of(2008, 1, 31, 9, 0)
+				.dateTimesUntil(LocalDateTime.of(2008, 3, 31, 9, 0), Period.ofMonths(1)).collect(Collectors.toList()),
+				Arrays.asList(LocalDateTime.of(2008, 1, 31, 9, 0), LocalDateTime.of(2008, 2, 29, 9, 0)));
+		assertEquals(LocalDateTime.of(2008, 1, 31, 9, 0)
+				.dateTimesUntil(LocalDateTime.of(2008, 1, 29, 8, 0), Period.ofDays(-1)).collect(Collectors.toList()),
+				Arrays.asList(LocalDateTime.of(2008, 1, 31, 9, 0), LocalDateTime.of(2008, 1, 30, 9, 0),
+						LocalDateTime.of(2008, 1, 29, 9, 0)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_dateTimesUntil_endBefore() {
+		try {
+			TEST_2007_07_15_12_30_40_987654321.dateTimesUntil(TEST_2007_07_15_12_30_40_987654321.minusNanos(1));
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// compareTo()
 	// -----------------------------------------------------------------------
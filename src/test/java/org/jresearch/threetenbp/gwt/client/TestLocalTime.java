@@ -2425,6 +2425,27 @@ public class TestLocalTime extends AbstractDateTimeTest {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	// toPackedKey()
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_toPackedKey() {
+		assertEquals(LocalTime.MIDNIGHT.toPackedKey(), 0d, 0d);
+		assertEquals(LocalTime.MAX.toPackedKey(), 86399999999999d, 0d);
+		assertEquals(LocalTime.ofPackedKey(LocalTime.MAX.toPackedKey()), LocalTime.MAX);
+		assertEquals(LocalTime.ofPackedKey(LocalTime.of(11, 30, 59, 500).toPackedKey()), LocalTime.of(11, 30, 59, 500));
+	}
+
+	@Test(expected = DateTimeException.class)
+	public void test_ofPackedKey_tooBig() {
+		try {
+			LocalTime.ofPackedKey(86400000000000d);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// compareTo()
 	// -----------------------------------------------------------------------
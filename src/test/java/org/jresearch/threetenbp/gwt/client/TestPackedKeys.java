@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jresearch.threetenbp.gwt.client;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test packed key helpers.
+ */
+//@Test
+public class TestPackedKeys extends AbstractTest {
+
+	// -----------------------------------------------------------------------
+	public void test_sortedOrder() {
+		List<LocalDate> dates = Arrays.asList(LocalDate.of(2008, 6, 30), LocalDate.of(2007, 1, 1),
+				LocalDate.of(2008, 6, 30), LocalDate.of(1969, 12, 31), LocalDate.of(2010, 3, 4));
+		int[] order = PackedKeys.sortedOrder(PackedKeys.ofDates(dates));
+		assertTrue(Arrays.equals(order, new int[] { 3, 1, 0, 2, 4 }));
+	}
+
+	public void test_sortedOrder_subMillisecondTies() {
+		LocalDateTime base = LocalDateTime.of(2008, 6, 30, 11, 30, 59, 500_000_000);
+		List<LocalDateTime> dateTimes = Arrays.asList(base.plusNanos(900), base.plusNanos(5), base.minusNanos(1),
+				base.plusNanos(5), base);
+		double[] keys = PackedKeys.ofDateTimes(dateTimes);
+		int[] nanos = PackedKeys.nanosOfMilli(dateTimes);
+		assertTrue(Arrays.equals(PackedKeys.sortedOrder(keys, nanos), new int[] { 2, 4, 1, 3, 0 }));
+		// the key alone is only precise to the millisecond
+		assertTrue(Arrays.equals(PackedKeys.sortedOrder(keys), new int[] { 2, 0, 1, 3, 4 }));
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(PackedKeys.ofDateTime(keys[i], nanos[i]), dateTimes.get(i));
+		}
+	}
+
+	public void test_sortedOrder_tieKeysLengthMismatch() {
+		try {
+			PackedKeys.sortedOrder(new double[2], new int[1]);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	public void test_sortedOrder_empty() {
+		assertEquals(PackedKeys.sortedOrder(new double[0]).length, 0);
+	}
+
+	public void test_bounds() {
+		double[] keys = { 1, 2, 2, 2, 5 };
+		assertEquals(PackedKeys.lowerBound(keys, 2), 1);
+		assertEquals(PackedKeys.upperBound(keys, 2), 4);
+		assertEquals(PackedKeys.lowerBound(keys, 3), 4);
+		assertEquals(PackedKeys.upperBound(keys, 3), 4);
+		assertEquals(PackedKeys.lowerBound(keys, 0), 0);
+		assertEquals(PackedKeys.upperBound(keys, 5), 5);
+	}
+
+}
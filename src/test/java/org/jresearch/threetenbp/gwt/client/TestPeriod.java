@@ -33,6 +33,7 @@ package org.jresearch.threetenbp.gwt.client;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.time.format.DateTimeParseException;
 
 import org.junit.Test;
 
@@ -295,6 +296,19 @@ public class TestPeriod extends AbstractTest {
 		}
 	}
 
+	@Test
+	public void test_parse_invalid() {
+		String[] texts = { "P", "P1Y2", "P1M2Y", "xP1Y", "P1Yx", "P2147483648Y", "-P-2147483648D" };
+		for (String text : texts) {
+			try {
+				Period.parse(text);
+				fail("Missing exception: " + text);
+			} catch (DateTimeParseException e) {
+				assertEquals(e.getErrorIndex(), 0);
+			}
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// isZero()
 	// -----------------------------------------------------------------------
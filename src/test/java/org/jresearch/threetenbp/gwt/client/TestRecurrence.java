@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jresearch.threetenbp.gwt.client;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.WEDNESDAY;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+import org.jresearch.threetenbp.gwt.client.Recurrence.Frequency;
+
+/**
+ * Test recurrence rules.
+ */
+//@Test
+public class TestRecurrence extends AbstractTest {
+
+	private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+	private static long epochSecond(LocalDateTime dateTime, ZoneId zone) {
+		return ZonedDateTime.of(dateTime, zone).toEpochSecond();
+	}
+
+	// -----------------------------------------------------------------------
+	public void test_weekly_count() {
+		Recurrence rule = Recurrence.builder(Frequency.WEEKLY, LocalDateTime.of(2019, 4, 17, 9, 0), ZoneOffset.UTC)
+				.onDays(MONDAY, WEDNESDAY).count(4).build();
+		long[] expected = { epochSecond(LocalDateTime.of(2019, 4, 17, 9, 0), ZoneOffset.UTC),
+				epochSecond(LocalDateTime.of(2019, 4, 22, 9, 0), ZoneOffset.UTC),
+				epochSecond(LocalDateTime.of(2019, 4, 24, 9, 0), ZoneOffset.UTC),
+				epochSecond(LocalDateTime.of(2019, 4, 29, 9, 0), ZoneOffset.UTC) };
+		assertTrue(Arrays.equals(rule.stream().toArray(), expected));
+		assertTrue(Arrays.equals(rule.between(expected[1], expected[3]), new long[] { expected[1], expected[2] }));
+	}
+
+	public void test_weekly_singleDay_countWindow() {
+		Recurrence rule = Recurrence.builder(Frequency.WEEKLY, LocalDateTime.of(2019, 4, 17, 9, 0), ZoneOffset.UTC)
+				.onDays(MONDAY).interval(2).count(3).build();
+		long last = epochSecond(LocalDateTime.of(2019, 5, 27, 9, 0), ZoneOffset.UTC);
+		assertEquals(rule.stream().toArray()[0], epochSecond(LocalDateTime.of(2019, 4, 29, 9, 0), ZoneOffset.UTC));
+		long from = epochSecond(LocalDateTime.of(2019, 5, 20, 0, 0), ZoneOffset.UTC);
+		assertTrue(Arrays.equals(rule.between(from, from + 60 * 86400), new long[] { last }));
+		assertEquals(rule.between(last + 1, last + 60 * 86400).length, 0);
+	}
+
+	public void test_monthly_lastFriday_acrossTransitions() {
+		Recurrence rule = Recurrence.builder(Frequency.MONTHLY, LocalDateTime.of(2018, 1, 26, 18, 30), PARIS)
+				.onDayOfWeekInMonth(-1, FRIDAY).build();
+		Recurrence.Cursor cursor = rule.cursor();
+		LocalDate date = LocalDate.of(2018, 1, 1);
+		for (int i = 0; i < 36; i++) {
+			LocalDate lastFriday = date.plusMonths(i).with(TemporalAdjusters.lastInMonth(FRIDAY));
+			assertEquals(cursor.nextLong(), epochSecond(lastFriday.atTime(18, 30), PARIS));
+		}
+	}
+
+	public void test_daily_gapAndOverlap() {
+		Recurrence rule = Recurrence.builder(Frequency.DAILY, LocalDateTime.of(2019, 3, 30, 2, 30), PARIS).build();
+		long from = epochSecond(LocalDateTime.of(2019, 10, 26, 0, 0), PARIS);
+		long[] window = rule.between(from, from + 3 * 86400);
+		assertEquals(window.length, 3);
+		assertEquals(window[0], epochSecond(LocalDateTime.of(2019, 10, 26, 2, 30), PARIS));
+		// the earlier offset in the overlap
+		assertEquals(window[1], ZonedDateTime.of(LocalDateTime.of(2019, 10, 27, 2, 30), PARIS)
+				.withEarlierOffsetAtOverlap().toEpochSecond());
+		Recurrence.Cursor cursor = rule.cursor();
+		cursor.nextLong();
+		// moved later by the length of the gap
+		assertEquals(cursor.nextLong(), epochSecond(LocalDateTime.of(2019, 3, 31, 3, 30), PARIS));
+	}
+
+	public void test_monthly_skipsShortMonths() {
+		Recurrence rule = Recurrence.builder(Frequency.MONTHLY, LocalDateTime.of(2019, 1, 31, 12, 0), ZoneOffset.UTC)
+				.count(3).build();
+		long[] buffer = new long[5];
+		assertEquals(rule.cursor().next(buffer), 3);
+		assertEquals(buffer[1], epochSecond(LocalDateTime.of(2019, 3, 31, 12, 0), ZoneOffset.UTC));
+		assertEquals(buffer[2], epochSecond(LocalDateTime.of(2019, 5, 31, 12, 0), ZoneOffset.UTC));
+	}
+
+	public void test_yearly_leapDay() {
+		Recurrence rule = Recurrence.builder(Frequency.YEARLY, LocalDateTime.of(2000, 2, 29, 0, 0), ZoneOffset.UTC)
+				.interval(2).until(epochSecond(LocalDateTime.of(2012, 12, 31, 0, 0), ZoneOffset.UTC)).build();
+		long[] occurrences = rule.stream().toArray();
+		assertEquals(occurrences.length, 4);
+		assertEquals(occurrences[3], epochSecond(LocalDateTime.of(2012, 2, 29, 0, 0), ZoneOffset.UTC));
+	}
+
+	public void test_cursor_fromFarAhead() {
+		Recurrence rule = Recurrence.builder(Frequency.DAILY, LocalDateTime.of(2000, 1, 1, 8, 0), PARIS).interval(3)
+				.count(10000).build();
+		long from = epochSecond(LocalDateTime.of(2050, 6, 1, 0, 0), PARIS);
+		Recurrence.Cursor cursor = rule.cursor(from);
+		long expected = epochSecond(LocalDateTime.of(2000, 1, 1, 8, 0).plusDays(3 * 6138), PARIS);
+		assertEquals(cursor.nextLong(), expected);
+		assertEquals(rule.stream().count(), 10000);
+	}
+
+	public void test_builder_invalid() {
+		try {
+			Recurrence.builder(Frequency.DAILY, LocalDateTime.of(2000, 1, 1, 8, 0), PARIS).onDays(MONDAY);
+			fail("Missing exception");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		try {
+			Recurrence.builder(Frequency.MONTHLY, LocalDateTime.of(2000, 1, 1, 8, 0), PARIS).onDayOfMonth(32);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			Recurrence.builder(Frequency.MONTHLY, LocalDateTime.of(2000, 1, 1, 8, 0), PARIS).interval(0);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package org.jresearch.threetenbp.gwt.client.browser;
+
+import org.jresearch.threetenbp.gwt.client.format.TestDateTimeFormatters;
+
+public class BrowserTestDateTimeFormatters extends TestDateTimeFormatters {
+
+	public void test_ofLocalizedDate_US() {
+		super.disable_test_ofLocalizedDate_US();
+	}
+
+	public void test_ofLocalizedDateTime_US() {
+		super.disable_test_ofLocalizedDateTime_US();
+	}
+
+	public void test_getLocalizedDateTimePattern_US() {
+		super.disable_test_getLocalizedDateTimePattern_US();
+	}
+
+}
@@ -10,6 +10,7 @@ public class BrowserTestSet {
 		GWTTestSuite suite = new GWTTestSuite("Browser Tests");
 
 		// $JUnit-BEGIN$
+		suite.addTestSuite(BrowserTestDateTimeFormatters.class);
 		suite.addTestSuite(BrowserTestDateTimeParsing.class);
 		suite.addTestSuite(BrowserTestDateTimeTextPrinting.class);
 		suite.addTestSuite(BrowserTestDecimalStyle.class);
@@ -212,6 +212,33 @@ public class TestHijrahChronology extends AbstractTest {
 		assertEquals(test, LocalDateTime.of(2298, 12, 4, 0, 0));
 	}
 
+	// -----------------------------------------------------------------------
+	// 30 year cycle tables
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_cycleBoundaries() {
+		for (int cycle = 0; cycle < 334; cycle += 7) {
+			HijrahDate first = HijrahDate.of(cycle * 30 + 1, 1, 1);
+			HijrahDate back = HijrahChronology.INSTANCE.dateEpochDay(first.toEpochDay());
+			assertEquals(back, first);
+			if (cycle > 0) {
+				HijrahDate last = HijrahChronology.INSTANCE.dateEpochDay(first.toEpochDay() - 1);
+				assertEquals(last, HijrahDate.of(cycle * 30, 12, last.lengthOfMonth()));
+			}
+		}
+	}
+
+	@Test
+	public void test_lengthOfYear_cycle() {
+		int days = 0;
+		for (int year = 1411; year <= 1440; year++) {
+			HijrahDate date = HijrahDate.of(year, 1, 1);
+			days += date.lengthOfYear();
+			assertEquals(HijrahDate.of(year, 12, 1).lengthOfMonth(), date.lengthOfYear() - 325);
+		}
+		assertEquals(days, 10631);
+	}
+
 	// -----------------------------------------------------------------------
 	// toString()
 	// -----------------------------------------------------------------------
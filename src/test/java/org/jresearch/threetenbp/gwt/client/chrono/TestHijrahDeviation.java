@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.jresearch.threetenbp.gwt.client.chrono;
+
+import java.time.LocalDate;
+import java.time.chrono.HijrahDate;
+
+import org.jresearch.threetenbp.gwt.client.AbstractTest;
+import org.jresearch.threetenbp.gwt.client.Support;
+import org.junit.Test;
+
+/**
+ * Test the Hijrah deviation configuration.
+ */
+//@Test
+public class TestHijrahDeviation extends AbstractTest {
+
+	private static final String CONFIG = "# comment\n"
+			+ "\n"
+			+ "  1429/0-1429/1:1\n"
+			+ "bad line\n"
+			+ "1432/0-1432/1:1\n"
+			+ "1430/0-1430/1:1;1430/13-1430/13:1\n"
+			+ "#1431/0-1431/1:1\n";
+
+	@Override
+	public String getModuleName() {
+		return "org.jresearch.threetenbp.gwt.threetenbpGwtHijrah";
+	}
+
+	@Override
+	public void gwtSetUpOnce() {
+		// must run before the first Hijrah date is computed
+		Support.setHijrahDeviation(CONFIG);
+	}
+
+	@Test
+	public void test_shiftedMonthLength() {
+		assertEquals(HijrahDate.of(1429, 1, 1).lengthOfMonth(), 29);
+		assertEquals(HijrahDate.of(1429, 2, 1).lengthOfMonth(), 30);
+		assertEquals(HijrahDate.of(1429, 3, 1).lengthOfMonth(), 30);
+		assertEquals(HijrahDate.of(1429, 1, 1).lengthOfYear(), 354);
+	}
+
+	@Test
+	public void test_shiftedToEpochDay() {
+		assertEquals(HijrahDate.of(1429, 1, 1).toEpochDay(), LocalDate.of(2008, 1, 10).toEpochDay());
+		// one day earlier than without the deviation
+		assertEquals(HijrahDate.of(1429, 2, 1).toEpochDay(), LocalDate.of(2008, 2, 8).toEpochDay());
+		assertEquals(HijrahDate.of(1429, 3, 1).toEpochDay(), LocalDate.of(2008, 3, 9).toEpochDay());
+	}
+
+	@Test
+	public void test_shiftedRoundTrip() {
+		assertEquals(HijrahDate.from(LocalDate.of(2008, 2, 7)), HijrahDate.of(1429, 1, 29));
+		assertEquals(HijrahDate.from(LocalDate.of(2008, 2, 8)), HijrahDate.of(1429, 2, 1));
+		assertEquals(HijrahDate.from(LocalDate.of(2008, 3, 8)), HijrahDate.of(1429, 2, 30));
+		for (long epochDay = 13880; epochDay < 13960; epochDay++) {
+			assertEquals(HijrahDate.from(LocalDate.ofEpochDay(epochDay)).toEpochDay(), epochDay);
+		}
+	}
+
+	@Test
+	public void test_malformedLineIgnored() {
+		// the valid element of a line with an invalid month is not applied either
+		assertEquals(HijrahDate.of(1430, 1, 1).lengthOfMonth(), 30);
+		assertEquals(HijrahDate.of(1430, 1, 1).toEpochDay(), 14242);
+	}
+
+	@Test
+	public void test_lineAfterMalformedLineApplied() {
+		assertEquals(HijrahDate.of(1432, 1, 1).lengthOfMonth(), 29);
+		assertEquals(HijrahDate.of(1432, 2, 1).toEpochDay(), LocalDate.of(2011, 1, 6).toEpochDay());
+	}
+
+	@Test
+	public void test_commentLineIgnored() {
+		assertEquals(HijrahDate.of(1431, 1, 1).lengthOfMonth(), 30);
+		assertEquals(HijrahDate.of(1431, 1, 1).toEpochDay(), 14596);
+	}
+
+}
@@ -40,9 +40,12 @@ import java.time.chrono.Chronology;
 import java.time.chrono.Era;
 import java.time.chrono.IsoChronology;
 import java.time.chrono.JapaneseChronology;
+import java.time.chrono.JapaneseDate;
 import java.time.chrono.JapaneseEra;
 import java.time.chrono.JapaneseEras;
+import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.ValueRange;
 import java.util.List;
 
 import org.jresearch.threetenbp.gwt.client.AbstractTest;
@@ -259,6 +262,48 @@ public class TestJapaneseChronology extends AbstractTest {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	// lengthOfYear() and range() at the era boundaries
+	// -----------------------------------------------------------------------
+	// @DataProvider(name="eraBoundaries")
+	Object[][] data_eraBoundaries() {
+		return new Object[][] {
+			{ LocalDate.of(1900, 3, 1), JapaneseEra.MEIJI, 33, 365, 45 },
+			{ LocalDate.of(1912, 7, 29), JapaneseEra.MEIJI, 45, 211, 45 },
+			{ LocalDate.of(1912, 7, 30), JapaneseEra.TAISHO, 1, 155, 15 },
+			{ LocalDate.of(1926, 12, 24), JapaneseEra.TAISHO, 15, 358, 15 },
+			{ LocalDate.of(1926, 12, 25), JapaneseEra.SHOWA, 1, 7, 63 },
+			{ LocalDate.of(1989, 1, 7), JapaneseEra.SHOWA, 64, 7, 64 },
+			{ LocalDate.of(1989, 1, 8), JapaneseEra.HEISEI, 1, 358, 31 },
+			{ LocalDate.of(2019, 4, 30), JapaneseEra.HEISEI, 31, 120, 31 },
+		};
+	}
+
+	@Test(/* dataProvider = "eraBoundaries" */)
+	public void test_eraBoundaries() {
+		Object[][] data = data_eraBoundaries();
+		for (int i = 0; i < data.length; i++) {
+			Object[] objects = data[i];
+			test_eraBoundaries((LocalDate) objects[0], (JapaneseEra) objects[1], ((Integer) objects[2]).intValue(),
+					((Integer) objects[3]).intValue(), ((Integer) objects[4]).intValue());
+		}
+	}
+
+	public void test_eraBoundaries(LocalDate iso, JapaneseEra era, int yearOfEra, int lengthOfYear, int maxYearOfEra) {
+		JapaneseDate date = JapaneseDate.from(iso);
+		assertEquals(date.getEra(), era);
+		assertEquals(date.get(ChronoField.YEAR_OF_ERA), yearOfEra);
+		assertEquals(date.lengthOfYear(), lengthOfYear);
+		assertEquals(date.range(ChronoField.DAY_OF_YEAR), ValueRange.of(1, lengthOfYear));
+		assertEquals(date.range(ChronoField.YEAR_OF_ERA), ValueRange.of(1, maxYearOfEra));
+		assertEquals(date.range(ChronoField.DAY_OF_MONTH), ValueRange.of(1, iso.lengthOfMonth()));
+	}
+
+	@Test
+	public void test_range_monthOfYear() {
+		assertEquals(JapaneseChronology.INSTANCE.range(ChronoField.MONTH_OF_YEAR), ValueRange.of(1, 12));
+	}
+
 	// -----------------------------------------------------------------------
 	// toString()
 	// -----------------------------------------------------------------------
@@ -36,10 +36,12 @@ import static java.time.temporal.ChronoField.DAY_OF_MONTH;
 import java.io.IOException;
 import java.text.ParsePosition;
 import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -48,6 +50,8 @@ import java.time.format.DecimalStyle;
 import java.time.format.SignStyle;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQuery;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import org.jresearch.threetenbp.gwt.client.AbstractTest;
@@ -166,6 +170,96 @@ public class TestDateTimeFormatter extends AbstractTest {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_formatAll() throws Exception {
+		DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+		List<LocalDate> dates = Arrays.asList(LocalDate.of(2008, 6, 30), LocalDate.of(2008, 6, 1),
+				LocalDate.of(2009, 1, 15));
+		String[] result = test.formatAll(dates);
+		assertEquals(result.length, 3);
+		assertEquals(result[0], "ONE30");
+		assertEquals(result[1], "ONE1");
+		assertEquals(result[2], "ONE15");
+	}
+
+	@Test
+	public void test_formatAll_zoneOverride() throws Exception {
+		DateTimeFormatter test = DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneOffset.ofHours(2));
+		List<Instant> instants = Arrays.asList(Instant.ofEpochSecond(0), Instant.ofEpochSecond(86400));
+		String[] result = new String[3];
+		test.formatAll(instants, result);
+		assertEquals(result[0], "1970-01-01T02:00:00");
+		assertEquals(result[1], "1970-01-02T02:00:00");
+		assertEquals(result[2], null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_formatAll_outTooSmall() throws Exception {
+		try {
+			List<LocalDate> dates = Arrays.asList(LocalDate.of(2008, 6, 30), LocalDate.of(2008, 6, 1));
+			fmt.formatAll(dates, new String[1]);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = DateTimeException.class)
+	public void test_formatAll_noSuchField() throws Exception {
+		try {
+			DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+			test.formatAll(Arrays.asList(LocalDate.of(2008, 6, 30), LocalTime.of(11, 30)));
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void test_parseAllToEpochDay() throws Exception {
+		List<String> texts = Arrays.asList("2008-06-30", "2008-06-31", "2008-06", "2008-06-30X", "1970-01-01");
+		long[] epochDays = new long[5];
+		int[] errors = new int[5];
+		int failed = DateTimeFormatter.ISO_LOCAL_DATE.parseAllToEpochDay(texts, epochDays, errors);
+		assertEquals(failed, 3);
+		assertEquals(epochDays[0], LocalDate.of(2008, 6, 30).toEpochDay());
+		assertEquals(errors[0], -1);
+		assertEquals(errors[1], 0);
+		assertEquals(errors[2], 7);
+		assertEquals(errors[3], 10);
+		assertEquals(epochDays[4], 0L);
+		assertEquals(errors[4], -1);
+	}
+
+	@Test
+	public void test_parseAllToInstant() throws Exception {
+		List<String> texts = Arrays.asList("1970-01-01T00:00:01.5Z", "2008-06-30", "1970-01-02T00:00:00Z");
+		long[] epochSeconds = new long[3];
+		int[] nanos = new int[3];
+		int[] errors = new int[3];
+		int failed = DateTimeFormatter.ISO_INSTANT.parseAllToInstant(texts, epochSeconds, nanos, errors);
+		assertEquals(failed, 1);
+		assertEquals(epochSeconds[0], 1L);
+		assertEquals(nanos[0], 500_000_000);
+		assertEquals(errors[0], -1);
+		assertEquals(errors[1], 10);
+		assertEquals(epochSeconds[2], 86400L);
+		assertEquals(nanos[2], 0);
+		assertEquals(errors[2], -1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_parseAllToEpochDay_outTooSmall() throws Exception {
+		try {
+			DateTimeFormatter.ISO_LOCAL_DATE.parseAllToEpochDay(Arrays.asList("2008-06-30", "2008-06-01"),
+					new long[2], new int[1]);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
 	@Test(expected = IOException.class) // IOException
 	public void test_print_CalendricalAppendable_ioError() throws Throwable {
 		try {
@@ -52,8 +52,11 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
+import java.time.format.FormatStyle;
 import java.time.temporal.IsoFields;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalField;
@@ -160,6 +163,41 @@ public class TestDateTimeFormatters extends AbstractTest {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_ofLocalizedDate_toString() {
+		DateTimeFormatter test = DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT);
+		assertEquals(test.toString(), "Localized(SHORT,)");
+	}
+
+	// run in browser only
+	public void disable_test_ofLocalizedDate_US() {
+		LocalDate date = LocalDate.of(2008, 6, 30);
+		DateTimeFormatter test = DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT).withLocale(Locale.US);
+		assertEquals(test.format(date), "6/30/08");
+		assertEquals(test.format(date), "6/30/08");
+		assertEquals(LocalDate.parse("6/30/08", test), date);
+		test = DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(Locale.US);
+		assertEquals(test.format(date), "Jun 30, 2008");
+		test = DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG).withLocale(Locale.US);
+		assertEquals(test.format(date), "June 30, 2008");
+	}
+
+	// run in browser only
+	public void disable_test_ofLocalizedDateTime_US() {
+		LocalDateTime dateTime = LocalDateTime.of(2008, 6, 30, 11, 30, 59);
+		DateTimeFormatter test = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT).withLocale(Locale.US);
+		assertEquals(test.format(dateTime).replace('\u202f', ' '), "6/30/08, 11:30 AM");
+	}
+
+	// run in browser only
+	public void disable_test_getLocalizedDateTimePattern_US() {
+		assertEquals(DateTimeFormatterBuilder.getLocalizedDateTimePattern(FormatStyle.SHORT, null,
+				IsoChronology.INSTANCE, Locale.US), "M/d/yy");
+		assertEquals(DateTimeFormatterBuilder.getLocalizedDateTimePattern(null, FormatStyle.SHORT,
+				IsoChronology.INSTANCE, Locale.GERMANY), "HH:mm");
+	}
+
 	// -----------------------------------------------------------------------
 	// -----------------------------------------------------------------------
 	// -----------------------------------------------------------------------
@@ -35,10 +35,16 @@ import static java.time.temporal.ChronoField.DAY_OF_MONTH;
 import static java.time.temporal.ChronoField.DAY_OF_WEEK;
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.TextStyle;
+import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalQueries;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import org.jresearch.threetenbp.gwt.client.format.wrap.DateTimeParseContextTestWrapper;
 import org.jresearch.threetenbp.gwt.client.format.wrap.DateTimeTextProviderTestWrapper;
@@ -402,6 +408,43 @@ public class TestTextParser extends AbstractTestPrinterParser {
 		assertParsed(parseContext, MONTH_OF_YEAR, 1L);
 	}
 
+	// -----------------------------------------------------------------------
+	public void test_parse_map_longestMatch() throws Exception {
+		Map<Long, String> map = new LinkedHashMap<Long, String>();
+		map.put(1L, "Ma");
+		map.put(2L, "Mar");
+		map.put(3L, "March");
+		DateTimeFormatter f = new DateTimeFormatterBuilder().appendText(MONTH_OF_YEAR, map).toFormatter();
+		ParsePosition pos = new ParsePosition(0);
+		TemporalAccessor parsed = f.parseUnresolved("Marchx", pos);
+		assertEquals(pos.getIndex(), 5);
+		assertEquals(parsed.getLong(MONTH_OF_YEAR), 3L);
+		pos = new ParsePosition(0);
+		parsed = f.parseUnresolved("Marx", pos);
+		assertEquals(pos.getIndex(), 3);
+		assertEquals(parsed.getLong(MONTH_OF_YEAR), 2L);
+		pos = new ParsePosition(0);
+		parsed = f.parseUnresolved("MARCH", pos);
+		assertEquals(parsed, null);
+	}
+
+	public void test_parse_map_longestMatch_caseInsensitive() throws Exception {
+		Map<Long, String> map = new LinkedHashMap<Long, String>();
+		map.put(1L, "Ma");
+		map.put(2L, "Mar");
+		map.put(3L, "March");
+		DateTimeFormatter f = new DateTimeFormatterBuilder().parseCaseInsensitive().appendText(MONTH_OF_YEAR, map)
+				.toFormatter();
+		ParsePosition pos = new ParsePosition(0);
+		TemporalAccessor parsed = f.parseUnresolved("MARCHING", pos);
+		assertEquals(pos.getIndex(), 5);
+		assertEquals(parsed.getLong(MONTH_OF_YEAR), 3L);
+		pos = new ParsePosition(0);
+		parsed = f.parseUnresolved("mA", pos);
+		assertEquals(pos.getIndex(), 2);
+		assertEquals(parsed.getLong(MONTH_OF_YEAR), 1L);
+	}
+
 	private void assertParsed(DateTimeParseContextTestWrapper context, TemporalField field, Long value) {
 		if (value == null) {
 			assertEquals(context.getParsed(field), null);
@@ -213,5 +213,123 @@ public class TestIsoFields extends AbstractTest {
 		assertEquals(IsoFields.QUARTER_YEARS.between(start, end), expected);
 	}
 
+	// -----------------------------------------------------------------------
+	// toIsoWeeks()
+	// -----------------------------------------------------------------------
+	@Test(/* dataProvider="week" */)
+	public void test_toIsoWeeks() {
+		Object[][] data = data_week();
+		int[] epochDays = new int[data.length];
+		for (int i = 0; i < data.length; i++) {
+			epochDays[i] = (int) ((LocalDate) data[i][0]).toEpochDay();
+		}
+		int[] weekBasedYears = new int[data.length];
+		int[] weeks = new int[data.length];
+		IsoFields.toIsoWeeks(epochDays, weekBasedYears, weeks);
+		for (int i = 0; i < data.length; i++) {
+			assertEquals(weeks[i], (int) data[i][2]);
+			assertEquals(weekBasedYears[i], (int) data[i][3]);
+		}
+	}
+
+	@Test
+	public void test_toIsoWeeks_outsideTable() {
+		LocalDate[] dates = { LocalDate.of(1000, 1, 1), LocalDate.of(1899, 12, 31), LocalDate.of(1900, 1, 1),
+				LocalDate.of(2100, 12, 31), LocalDate.of(2101, 1, 3), LocalDate.of(3000, 12, 31) };
+		int[] epochDays = new int[dates.length];
+		for (int i = 0; i < dates.length; i++) {
+			epochDays[i] = (int) dates[i].toEpochDay();
+		}
+		int[] weekBasedYears = new int[dates.length];
+		int[] weeks = new int[dates.length];
+		IsoFields.toIsoWeeks(epochDays, weekBasedYears, weeks);
+		assertEquals(weekBasedYears[0], 1000);
+		assertEquals(weeks[0], 1);
+		assertEquals(weekBasedYears[1], 1899);
+		assertEquals(weeks[1], 52);
+		assertEquals(weekBasedYears[2], 1900);
+		assertEquals(weeks[2], 1);
+		assertEquals(weekBasedYears[3], 2100);
+		assertEquals(weeks[3], 52);
+		assertEquals(weekBasedYears[4], 2101);
+		assertEquals(weeks[4], 1);
+		assertEquals(weekBasedYears[5], 3001);
+		assertEquals(weeks[5], 1);
+	}
+
+	@Test
+	public void test_toIsoWeeks_lengthMismatch() {
+		try {
+			IsoFields.toIsoWeeks(new int[2], new int[2], new int[1]);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	// -----------------------------------------------------------------------
+	// setWeekTableRange()
+	// -----------------------------------------------------------------------
+	@Test(/* dataProvider="week" */)
+	public void test_setWeekTableRange() {
+		IsoFields.setWeekTableRange(2010, 2015);
+		try {
+			Object[][] data = data_week();
+			for (int i = 0; i < data.length; i++) {
+				Object[] objects = data[i];
+				test_WOWBY((LocalDate) objects[0], (DayOfWeek) objects[1], (int) objects[2], (int) objects[3]);
+				test_WBY((LocalDate) objects[0], (DayOfWeek) objects[1], (int) objects[2], (int) objects[3]);
+			}
+			assertEquals(LocalDate.of(2015, 6, 1).range(IsoFields.WEEK_OF_WEEK_BASED_YEAR), ValueRange.of(1, 53));
+			assertEquals(LocalDate.of(2016, 1, 3).get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), 53);
+			assertEquals(LocalDate.of(2016, 6, 1).range(IsoFields.WEEK_OF_WEEK_BASED_YEAR), ValueRange.of(1, 52));
+		} finally {
+			IsoFields.setWeekTableRange(1900, 2100);
+		}
+	}
+
+	@Test
+	public void test_setWeekTableRange_invalid() {
+		try {
+			IsoFields.setWeekTableRange(2000, 1999);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			IsoFields.setWeekTableRange(999_990, 999_999);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			IsoFields.setWeekTableRange(-5_000_000, 5_000_000);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			IsoFields.setWeekTableRange(0, 10_000);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void test_setWeekTableRange_maxSpan() {
+		IsoFields.setWeekTableRange(1, 10_000);
+		try {
+			assertEquals(LocalDate.of(0, 12, 31).get(IsoFields.WEEK_BASED_YEAR), 0);
+			assertEquals(LocalDate.of(1, 1, 1).get(IsoFields.WEEK_BASED_YEAR), 1);
+			assertEquals(LocalDate.of(2, 1, 1).get(IsoFields.WEEK_BASED_YEAR), 2);
+			assertEquals(LocalDate.of(2008, 12, 29).get(IsoFields.WEEK_BASED_YEAR), 2009);
+			assertEquals(LocalDate.of(2008, 12, 29).get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), 1);
+			assertEquals(LocalDate.of(10_000, 12, 31).get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), 52);
+		} finally {
+			IsoFields.setWeekTableRange(1900, 2100);
+		}
+	}
+
 	// TODO: more tests
 }
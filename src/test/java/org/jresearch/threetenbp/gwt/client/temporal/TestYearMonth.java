@@ -44,6 +44,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
+import java.time.Period;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneId;
@@ -62,6 +63,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jresearch.threetenbp.gwt.client.AbstractDateTimeTest;
 import org.junit.Test;
@@ -1289,6 +1291,46 @@ public class TestYearMonth extends AbstractDateTimeTest {
 		assertEquals(str, expected);
 	}
 
+	// -----------------------------------------------------------------------
+	// monthsUntil()
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_monthsUntil() {
+		assertEquals(YearMonth.of(2007, 11).monthsUntil(YearMonth.of(2008, 2)).collect(Collectors.toList()),
+				Arrays.asList(YearMonth.of(2007, 11), YearMonth.of(2007, 12), YearMonth.of(2008, 1)));
+		assertEquals(TEST_2008_06.monthsUntil(TEST_2008_06).count(), 0);
+	}
+
+	@Test
+	public void test_monthsUntil_step() {
+		assertEquals(YearMonth.of(2008, 2).monthsUntil(YearMonth.of(2009, 2), Period.ofMonths(5))
+				.collect(Collectors.toList()),
+				Arrays.asList(YearMonth.of(2008, 2), YearMonth.of(2008, 7), YearMonth.of(2008, 12)));
+		assertEquals(YearMonth.of(2008, 2).monthsUntil(YearMonth.of(2007, 1), Period.ofMonths(-7))
+				.collect(Collectors.toList()), Arrays.asList(YearMonth.of(2008, 2), YearMonth.of(2007, 7)));
+		assertEquals(YearMonth.of(2000, 1).monthsUntil(YearMonth.of(2030, 1), Period.ofYears(10)).count(), 3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_monthsUntil_endBefore() {
+		try {
+			TEST_2008_06.monthsUntil(YearMonth.of(2008, 5));
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_monthsUntil_stepDays() {
+		try {
+			TEST_2008_06.monthsUntil(YearMonth.of(2009, 5), Period.of(0, 1, 1));
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// format(DateTimeFormatter)
 	// -----------------------------------------------------------------------
@@ -118,6 +118,17 @@ public class TestFixedZoneRules extends AbstractTest {
 		assertEquals(test.getOffset((Instant) null), expectedOffset);
 	}
 
+	@Test(/* dataProvider = "rules" */)
+	public void test_getOffsetAtEpochSecond() {
+		Object[][] data = data_rules();
+		for (int i = 0; i < data.length; i++) {
+			Object[] objects = data[i];
+			ZoneRules test = (ZoneRules) objects[0];
+			assertEquals(test.getOffsetAtEpochSecond(INSTANT.getEpochSecond()), objects[1]);
+			assertEquals(test.getOffsetAtEpochMilli(INSTANT.toEpochMilli()), objects[1]);
+		}
+	}
+
 	@Test(/* dataProvider = "rules" */)
 	public void test_getOffset_LocalDateTime() {
 		Object[][] data = data_rules();
@@ -130,6 +141,7 @@ public class TestFixedZoneRules extends AbstractTest {
 	public void test_getOffset_LocalDateTime(ZoneRules test, ZoneOffset expectedOffset) {
 		assertEquals(test.getOffset(LDT), expectedOffset);
 		assertEquals(test.getOffset((LocalDateTime) null), expectedOffset);
+		assertEquals(test.getOffsetInfo(LDT), expectedOffset);
 	}
 
 	@Test(/* dataProvider = "rules" */)
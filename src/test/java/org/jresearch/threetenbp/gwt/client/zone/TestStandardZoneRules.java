@@ -31,6 +31,7 @@
  */
 package org.jresearch.threetenbp.gwt.client.zone;
 
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
@@ -46,6 +47,7 @@ import java.time.zone.ZoneOffsetTransition;
 import java.time.zone.ZoneOffsetTransitionRule;
 import java.time.zone.ZoneOffsetTransitionRule.TimeDefinition;
 import java.time.zone.ZoneRules;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -103,6 +105,28 @@ public class TestStandardZoneRules extends AbstractTest {
 		assertNull(etcGmt().previousTransition(Instant.EPOCH));
 	}
 
+	public void test_EtcGmt_fixed() {
+		ZoneRules test = etcGmt();
+		assertEquals(test.isFixedOffset(), true);
+		assertEquals(test, ZoneRules.of(OFFSET_ZERO));
+		assertEquals(test.getOffset(createLDT(2008, 6, 30)), OFFSET_ZERO);
+		assertEquals(test.getStandardOffset(Instant.EPOCH), OFFSET_ZERO);
+	}
+
+	// -----------------------------------------------------------------------
+	// Asia/Kolkata
+	// -----------------------------------------------------------------------
+	public void test_Kolkata_afterLastTransition() {
+		ZoneRules test = ZoneId.of("Asia/Kolkata").getRules();
+		ZoneOffset offset = ZoneOffset.ofHoursMinutes(5, 30);
+		assertEquals(test.getOffset(createInstant(2008, 6, 30, ZoneOffset.UTC)), offset);
+		assertEquals(test.getOffsetAtEpochSecond(Long.MAX_VALUE), offset);
+		assertEquals(test.getOffsetInfo(createLDT(2008, 6, 30)), offset);
+		assertEquals(test.getValidOffsets(LocalDateTime.MAX), Arrays.asList(offset));
+		assertEquals(test.getOffset(createInstant(1940, 1, 1, ZoneOffset.UTC)), offset);
+		assertEquals(test.getOffset(createInstant(1943, 1, 1, ZoneOffset.UTC)), ZoneOffset.ofHoursMinutes(6, 30));
+	}
+
 	// -----------------------------------------------------------------------
 	// Europe/London
 	// -----------------------------------------------------------------------
@@ -158,6 +182,27 @@ public class TestStandardZoneRules extends AbstractTest {
 		assertEquals(test.getOffset(createInstant(2008, 3, 30, 1, 0, 0, 0, ZoneOffset.UTC)), OFFSET_PONE);
 	}
 
+	public void test_London_getOffsetAtEpochSecond() {
+		ZoneRules test = europeLondon();
+		long cutover = createInstant(2008, 3, 30, 1, 0, 0, 0, ZoneOffset.UTC).getEpochSecond();
+		assertEquals(test.getOffsetAtEpochSecond(cutover - 1), OFFSET_ZERO);
+		assertEquals(test.getOffsetAtEpochSecond(cutover), OFFSET_PONE);
+		assertEquals(test.getOffsetAtEpochSecond(createInstant(1800, 1, 1, ZoneOffset.UTC).getEpochSecond()),
+				ZoneOffset.ofHoursMinutesSeconds(0, -1, -15));
+		assertEquals(test.getOffsetAtEpochMilli(cutover * 1000d - 0.5), OFFSET_ZERO);
+		assertEquals(test.getOffsetAtEpochMilli(cutover * 1000d), OFFSET_PONE);
+	}
+
+	@Test(expected = DateTimeException.class)
+	public void test_getOffsetAtEpochMilli_NaN() {
+		try {
+			europeLondon().getOffsetAtEpochMilli(Double.NaN);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
 	public void test_London_getOffset_fromDST() {
 		ZoneRules test = europeLondon();
 		assertEquals(test.getOffset(createInstant(2008, 10, 24, ZoneOffset.UTC)), OFFSET_PONE);
@@ -204,6 +249,18 @@ public class TestStandardZoneRules extends AbstractTest {
 		checkOffset(test, LocalDateTime.of(2008, 3, 30, 2, 0, 0, 0), OFFSET_PONE, 1);
 	}
 
+	public void test_London_getOffsetInfo_cachedTransition() {
+		ZoneRules test = europeLondon();
+		// historic rules
+		Object gap = test.getOffsetInfo(LocalDateTime.of(1990, 3, 25, 1, 30));
+		assertTrue(gap instanceof ZoneOffsetTransition);
+		assertSame(test.getOffsetInfo(LocalDateTime.of(1990, 3, 25, 1, 45)), gap);
+		// last rules
+		Object overlap = test.getOffsetInfo(LocalDateTime.of(2008, 10, 26, 1, 30));
+		assertTrue(overlap instanceof ZoneOffsetTransition);
+		assertSame(test.getOffsetInfo(LocalDateTime.of(2008, 10, 26, 1, 45)), overlap);
+	}
+
 	public void test_London_getOffsetInfo_fromDST() {
 		ZoneRules test = europeLondon();
 		checkOffset(test, createLDT(2008, 10, 24), OFFSET_PONE, 1);
@@ -1167,10 +1224,12 @@ public class TestStandardZoneRules extends AbstractTest {
 		assertEquals(rules.getOffset(dateTime), offset);
 		if (type == 1) {
 			assertEquals(validOffsets.get(0), offset);
+			assertEquals(rules.getOffsetInfo(dateTime), offset);
 			return null;
 		} else {
 			ZoneOffsetTransition zot = rules.getTransition(dateTime);
 			assertNotNull(zot);
+			assertEquals(rules.getOffsetInfo(dateTime), zot);
 			assertEquals(zot.isOverlap(), type == 2);
 			assertEquals(zot.isGap(), type == 0);
 			assertEquals(zot.isValidOffset(offset), type == 2);